@@ -194,6 +194,17 @@ class VCEmbedding:
             self.save_team_index(team)
             self.save_team_weights(team)
 
+    def export_chunks(self, path=os.path.join(DATA_DIR, "routing_chunks.jsonl")):
+        """
+        Writes every team chunk as one JSON line {"team", "path", "text"}.
+        The Java API builds its in-process vector index from this file.
+        """
+        with open(path, "w") as f:
+            for team, chunks in self.team_chunks.items():
+                for c in chunks:
+                    f.write(json.dumps({"team": team, "path": c.get("path"), "text": c["text"]}) + "\n")
+        logger.info(f"Exported routing chunks to {path}")
+
     # =========================
     # TOKEN EXTRACTION
     # =========================
@@ -58,4 +58,9 @@ class PDFSearchAPI:
             "results": clean_results
         })
 
-
+    def pdf_query_batch(self, texts):
+        """
+        Runs several queries in one request
+        Returns one response per query, in the same order
+        """
+        return {"responses": [self.pdf_query(text) for text in texts]}
@@ -1,4 +1,9 @@
 from fastapi import Depends, Request
 
+from app.core.models import BatchQueryRequest
+
 def pdf_query(query: str, request: Request):
     return request.app.state.pdf_search_api.pdf_query(query)
+
+def pdf_query_batch(body: BatchQueryRequest, request: Request):
+    return request.app.state.pdf_search_api.pdf_query_batch(body.queries)
@@ -16,6 +16,9 @@ class DocumentNode:
 class QueryRequest(BaseModel):
     text: str
 
+class BatchQueryRequest(BaseModel):
+    queries: list[str]
+
 class QueryResult(BaseModel):
     path: str
     score: float
@@ -45,6 +45,7 @@ async def lifespan(app: FastAPI):
     team_chunks_map = embedding_service.process_root_nodes(root_node_list)
     embedding_service.initialize_indexes(team_chunks_map)
     embedding_service.initialize_indexes(team_chunks_map)
+    embedding_service.export_chunks()
 
 
     logger.info("Bootstrap complete. Search service ready!")
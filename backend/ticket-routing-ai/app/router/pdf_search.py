@@ -1,5 +1,6 @@
 from fastapi import APIRouter
-from app.core.embedding.pdf_search_api_service import pdf_query
+from app.core.embedding.pdf_search_api_service import pdf_query, pdf_query_batch
 pdf_search = APIRouter(prefix="/pdf_search" ,tags=["PdfSearch"])
 
-pdf_search.add_api_route("/query",pdf_query,methods=["GET"],summary="Get results")
\ No newline at end of file
+pdf_search.add_api_route("/query",pdf_query,methods=["GET"],summary="Get results")
+pdf_search.add_api_route("/query_batch",pdf_query_batch,methods=["POST"],summary="Get results for several queries")
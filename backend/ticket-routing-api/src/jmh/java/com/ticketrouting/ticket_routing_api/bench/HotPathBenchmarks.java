@@ -0,0 +1,182 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.dto.TicketDetailResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketResponse;
+import com.ticketrouting.ticket_routing_api.event.AiSearchResponse;
+import com.ticketrouting.ticket_routing_api.event.RoutingDecision;
+import com.ticketrouting.ticket_routing_api.model.*;
+import com.ticketrouting.ticket_routing_api.repository.TicketSearchRow;
+import com.ticketrouting.ticket_routing_api.service.TicketSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// JMH micro-benchmarks for the API's CPU hot paths over synthetic data; no Spring context, no DB.
+// The database-backed list filtering is measured by TicketListBenchmarks.
+// Run from the jmh source set (e.g. the jmh task of the build) and keep the JSON result per version.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class HotPathBenchmarks {
+
+    static final String[] TEAMS = {"Cluster Administration", "Containers and Workloads",
+            "Networking", "Scheduling and Resource Management"};
+    static final String[] WORDS = {"pod", "node", "crashloopbackoff", "ingress", "dns", "timeout",
+            "volume", "pending", "scheduler", "oom", "service", "deployment", "rollout", "certificate"};
+
+    @Param({"10000"})
+    int size;
+
+    // same date handling as the ObjectMapper Spring Boot configures for the API
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    private List<Ticket> tickets;
+    private List<TicketDetail> details;
+    private List<TicketResponse> responses;
+    private TicketSearchIndex index;
+    private AiSearchResponse aiResponse;
+    private byte[] aiJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tickets = syntheticTickets(size, random);
+        details = tickets.stream().map(t -> syntheticDetail(t, random)).toList();
+        responses = tickets.stream().map(TicketResponse::from).toList();
+        index = TicketSearchIndex.of(tickets.stream().map(SyntheticRow::new).toList());
+        aiResponse = syntheticAiResponse(random);
+        aiJson = objectMapper.writeValueAsBytes(aiResponse);
+    }
+
+    @Benchmark
+    public Object searchIndexSubstring() {
+        return index.search(WORDS[random.nextInt(WORDS.length)]);
+    }
+
+    @Benchmark
+    public Object searchIndexTicketNumber() {
+        return index.search("tck-" + (1000 + random.nextInt(size)));
+    }
+
+    @Benchmark
+    public void mapTicketResponses(Blackhole bh) {
+        for (Ticket t : tickets) bh.consume(TicketResponse.from(t));
+    }
+
+    @Benchmark
+    public void mapTicketDetailResponses(Blackhole bh) {
+        for (TicketDetail d : details) bh.consume(TicketDetailResponse.from(d));
+    }
+
+    @Benchmark
+    public byte[] serializeTicketResponseList() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public AiSearchResponse deserializeAiSearchResponse() throws IOException {
+        return objectMapper.readValue(aiJson, AiSearchResponse.class);
+    }
+
+    @Benchmark
+    public RoutingDecision routingDecision() {
+        return RoutingDecision.of(aiResponse);
+    }
+
+    // ===================== SYNTHETIC DATA =====================
+
+    private static List<Ticket> syntheticTickets(int size, SplittableRandom random) {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS.length; i++) {
+            Team team = new Team();
+            team.setId((long) i + 1);
+            team.setName(TEAMS[i]);
+            teams.add(team);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Ticket> tickets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Customer requester = new Customer();
+            requester.setId((long) (i % 500) + 1);
+            requester.setFullName("Requester " + (i % 500));
+            requester.setEmail("requester" + (i % 500) + "@example.com");
+
+            Ticket t = new Ticket();
+            t.setId((long) i + 1);
+            t.setTicketNumber("TCK-" + (1000 + i));
+            t.setSubject(subject(random));
+            t.setStatus(TicketStatus.values()[random.nextInt(TicketStatus.values().length)]);
+            t.setPriority(TicketPriority.values()[random.nextInt(TicketPriority.values().length)]);
+            t.setRequester(requester);
+            t.setAssignedTeam(random.nextInt(4) == 0 ? null : teams.get(random.nextInt(teams.size())));
+            t.setCreatedAt(now.minusMinutes(i));
+            t.setUpdatedAt(now.minusMinutes(i));
+            tickets.add(t);
+        }
+        return tickets;
+    }
+
+    private static TicketDetail syntheticDetail(Ticket t, SplittableRandom random) {
+        TicketDetail d = new TicketDetail();
+        d.setTicket(t);
+        d.setAiSuggestedTeam(TEAMS[random.nextInt(TEAMS.length)]);
+        d.setAiConfidence(random.nextDouble() * 100);
+        d.setDescription(subject(random));
+        d.setCreatedAt(t.getCreatedAt());
+        return d;
+    }
+
+    private static AiSearchResponse syntheticAiResponse(SplittableRandom random) {
+        List<AiTeamConfidence> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS.length; i++) {
+            teams.add(new AiTeamConfidence(TEAMS[i], Math.round(random.nextDouble() * 10000) / 100.0, i + 1));
+        }
+        AiSearchResponse response = new AiSearchResponse();
+        response.setAutoAssign(false);
+        response.setTeams(teams);
+        response.setResults(List.of());
+        return response;
+    }
+
+    static String subject(SplittableRandom random) {
+        StringBuilder sb = new StringBuilder();
+        int words = 4 + random.nextInt(8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private record SyntheticRow(Long id, String ticketNumber, String subject,
+                                String requesterName, String requesterEmail) implements TicketSearchRow {
+        SyntheticRow(Ticket t) {
+            this(t.getId(), t.getTicketNumber(), t.getSubject(),
+                    t.getRequester().getFullName(), t.getRequester().getEmail());
+        }
+
+        public Long getId() { return id; }
+        public String getTicketNumber() { return ticketNumber; }
+        public String getSubject() { return subject; }
+        public String getRequesterName() { return requesterName; }
+        public String getRequesterEmail() { return requesterEmail; }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.ticketrouting.ticket_routing_api.dto.TicketPageResponse;
+import com.ticketrouting.ticket_routing_api.model.TicketPriority;
+import com.ticketrouting.ticket_routing_api.model.TicketStatus;
+import com.ticketrouting.ticket_routing_api.service.TeamDirectory;
+import com.ticketrouting.ticket_routing_api.service.TicketSearchIndex;
+import com.ticketrouting.ticket_routing_api.service.TicketService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/tickets as the dashboard issues it: TicketService.listAsDto against a seeded PostgreSQL,
+// so each op pays the Specification query, the keyset index and the DTO mapping.
+// One embedded PostgreSQL and one application context per fork; rows are seeded over JDBC,
+// so no outbox rows exist and the routing dispatcher stays idle while measuring.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+public class TicketListBenchmarks {
+
+    private static final int CUSTOMERS = 500;
+    private static final int SEED_BATCH = 1000;
+
+    @Param({"50000"})
+    int size;
+
+    @Param({"50"})
+    int pageSize;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private TicketService ticketService;
+    private String secondPageCursor;
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan("com.ticketrouting.ticket_routing_api")
+    @EntityScan("com.ticketrouting.ticket_routing_api.model")
+    @EnableJpaRepositories("com.ticketrouting.ticket_routing_api.repository")
+    static class Application {}
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "ai.routing.base-url=http://127.0.0.1:9/unused")
+                .run();
+
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(TeamDirectory.class).reload();
+        context.getBean(TicketSearchIndex.class).rebuild();
+        ticketService = context.getBean(TicketService.class);
+        secondPageCursor = ticketService.listAsDto(null, null, null, null, null, null, pageSize).getNextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public TicketPageResponse firstPage() {
+        return ticketService.listAsDto(null, null, null, null, null, null, pageSize);
+    }
+
+    @Benchmark
+    public TicketPageResponse secondPage() {
+        return ticketService.listAsDto(null, null, null, null, null, secondPageCursor, pageSize);
+    }
+
+    @Benchmark
+    public TicketPageResponse byStatus() {
+        return ticketService.listAsDto(TicketStatus.OPEN.name(), null, null, null, null, null, pageSize);
+    }
+
+    @Benchmark
+    public TicketPageResponse byTeamAndPriority() {
+        return ticketService.listAsDto(null, null, team(), TicketPriority.HIGH.name(), null, null, pageSize);
+    }
+
+    @Benchmark
+    public TicketPageResponse bySearch() {
+        String word = HotPathBenchmarks.WORDS[random.nextInt(HotPathBenchmarks.WORDS.length)];
+        return ticketService.listAsDto(null, null, null, null, word, null, pageSize);
+    }
+
+    private String team() {
+        return HotPathBenchmarks.TEAMS[random.nextInt(HotPathBenchmarks.TEAMS.length)];
+    }
+
+    // Same shape as HotPathBenchmarks' synthetic data: a quarter unassigned, 500 requesters
+    private void seed(JdbcTemplate jdbc) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (String team : HotPathBenchmarks.TEAMS) {
+            jdbc.update("INSERT INTO team (name, active, created_at) VALUES (?, true, ?)", team, now);
+        }
+        List<Long> teamIds = jdbc.queryForList("SELECT id FROM team ORDER BY id", Long.class);
+
+        List<Object[]> customers = new ArrayList<>(CUSTOMERS);
+        for (int i = 0; i < CUSTOMERS; i++) {
+            String email = "requester" + i + "@example.com";
+            customers.add(new Object[]{"Requester " + i, email, email, now});
+        }
+        jdbc.batchUpdate("INSERT INTO customer (full_name, email, email_normalized, active, created_at) " +
+                "VALUES (?, ?, ?, true, ?)", customers);
+        List<Long> customerIds = jdbc.queryForList("SELECT id FROM customer ORDER BY id", Long.class);
+
+        LocalDateTime start = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < size; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.minusMinutes(i));
+            rows.add(new Object[]{
+                    "TCK-" + (1000 + i),
+                    HotPathBenchmarks.subject(random),
+                    TicketStatus.values()[random.nextInt(TicketStatus.values().length)].name(),
+                    TicketPriority.values()[random.nextInt(TicketPriority.values().length)].name(),
+                    customerIds.get(i % CUSTOMERS),
+                    random.nextInt(4) == 0 ? null : teamIds.get(random.nextInt(teamIds.size())),
+                    createdAt,
+                    createdAt
+            });
+            if (rows.size() == SEED_BATCH || i == size - 1) {
+                jdbc.batchUpdate("INSERT INTO ticket (id, ticket_number, subject, status, priority, archived, " +
+                        "requester_id, assigned_team_id, created_at, updated_at) " +
+                        "VALUES (nextval('ticket_seq'), ?, ?, ?, ?, false, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        jdbc.execute("ANALYZE ticket");
+    }
+}
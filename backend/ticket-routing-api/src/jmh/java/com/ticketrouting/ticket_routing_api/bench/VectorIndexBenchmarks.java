@@ -0,0 +1,110 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.ticketrouting.ticket_routing_api.event.HashedTextEmbedder;
+import com.ticketrouting.ticket_routing_api.event.HnswIndex;
+import com.ticketrouting.ticket_routing_api.event.VectorIndexFile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// HNSW graph search vs the exact scan it approximates, per query, with the router's defaults
+// (m=16, efConstruction=200, 512 dims). Indexes the chunk file at indexPath when given, otherwise
+// synthetic subjects embedded like chunks; recall@k of the graph search is printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class VectorIndexBenchmarks {
+
+    private static final int DIM = 512;
+    private static final int M = 16;
+    private static final int EF_CONSTRUCTION = 200;
+    private static final int QUERIES = 200;
+    private static final long BUILD_SEED = 42L;
+
+    @Param({""})
+    String indexPath;
+
+    @Param({"20000"})
+    int size;
+
+    @Param({"10"})
+    int k;
+
+    @Param({"64"})
+    int efSearch;
+
+    private HnswIndex index;
+    private float[][] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        HashedTextEmbedder embedder = new HashedTextEmbedder(DIM);
+
+        FloatBuffer vectors;
+        if (indexPath.isBlank()) {
+            vectors = FloatBuffer.allocate(size * DIM);
+            for (int i = 0; i < size; i++) {
+                vectors.put(i * DIM, embedder.embed(chunk(random, i)));
+            }
+        } else {
+            VectorIndexFile file = VectorIndexFile.open(Path.of(indexPath));
+            if (file.dim() != DIM) {
+                throw new IllegalStateException("Index dim " + file.dim() + " != " + DIM);
+            }
+            vectors = file.vectors();
+        }
+        index = HnswIndex.build(vectors, DIM, M, EF_CONSTRUCTION, BUILD_SEED);
+
+        // held-out subjects, so no query is an indexed vector
+        queries = new float[QUERIES][];
+        for (int q = 0; q < QUERIES; q++) {
+            queries[q] = embedder.embed(HotPathBenchmarks.subject(random));
+        }
+
+        System.out.println(">>> [VECTOR-BENCH] " + index.size() + " vectors, recall@" + k
+                + " at efSearch=" + efSearch + ": " + recall());
+    }
+
+    @Benchmark
+    public List<HnswIndex.Hit> hnswSearch() {
+        return index.search(nextQuery(), k, efSearch);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Hit> bruteForce() {
+        return index.bruteForce(nextQuery(), k);
+    }
+
+    private float[] nextQuery() {
+        float[] q = queries[next];
+        next = (next + 1) % QUERIES;
+        return q;
+    }
+
+    private double recall() {
+        long found = 0;
+        for (float[] query : queries) {
+            Set<Integer> truth = new HashSet<>();
+            for (HnswIndex.Hit h : index.bruteForce(query, k)) truth.add(h.id());
+            for (HnswIndex.Hit h : index.search(query, k, efSearch)) if (truth.contains(h.id())) found++;
+        }
+        return (double) found / ((long) QUERIES * Math.min(k, index.size()));
+    }
+
+    // a subject plus a host/namespace token, so chunks are not all drawn from the same few word bags
+    private static String chunk(SplittableRandom random, int i) {
+        return HotPathBenchmarks.subject(random) + " on node-" + (i % 997) + " in namespace team-" + (i % 31);
+    }
+}
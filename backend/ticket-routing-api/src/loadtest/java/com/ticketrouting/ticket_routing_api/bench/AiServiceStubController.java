@@ -0,0 +1,136 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.event.AiBatchSearchResponse;
+import com.ticketrouting.ticket_routing_api.event.AiSearchResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Stand-in for the Python /pdf_search service so routing can be load-tested without it.
+// Latency is log-normal from the configured median and p99; replies are delayed on a
+// scheduler, not a sleeping request thread, so the stub itself is not the bottleneck.
+@Profile("loadtest")
+@RestController
+@RequestMapping("/stub/pdf_search")
+public class AiServiceStubController {
+
+    private static final double Z_99 = 2.326;
+
+    private final double mu;
+    private final double sigma;
+    private final double errorRate;
+    private final List<String> teams;
+    private final double topConfidenceMin;
+    private final double topConfidenceMax;
+
+    private final ScheduledExecutorService timer = Executors.newScheduledThreadPool(2);
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public AiServiceStubController(
+            @Value("${loadtest.stub.latency-median-ms:150}") double medianMs,
+            @Value("${loadtest.stub.latency-p99-ms:900}") double p99Ms,
+            @Value("${loadtest.stub.error-rate:0.01}") double errorRate,
+            @Value("${loadtest.stub.teams:Cluster Administration,Containers and Workloads,Networking,Scheduling and Resource Management}") String teams,
+            @Value("${loadtest.stub.top-confidence-min:60}") double topConfidenceMin,
+            @Value("${loadtest.stub.top-confidence-max:99}") double topConfidenceMax
+    ) {
+        this.mu = Math.log(Math.max(1, medianMs));
+        this.sigma = Math.max(0, Math.log(Math.max(p99Ms, medianMs) / Math.max(1, medianMs)) / Z_99);
+        this.errorRate = errorRate;
+        this.teams = Arrays.stream(teams.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        this.topConfidenceMin = topConfidenceMin;
+        this.topConfidenceMax = topConfidenceMax;
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    @GetMapping("/query")
+    public CompletableFuture<ResponseEntity<AiSearchResponse>> query(@RequestParam String query) {
+        queries.incrementAndGet();
+        return delayed(this::answer);
+    }
+
+    @PostMapping("/query_batch")
+    public CompletableFuture<ResponseEntity<AiBatchSearchResponse>> queryBatch(@RequestBody Map<String, List<String>> body) {
+        List<String> batch = body.getOrDefault("queries", List.of());
+        queries.addAndGet(batch.size());
+        return delayed(() -> {
+            AiBatchSearchResponse response = new AiBatchSearchResponse();
+            response.setResponses(batch.stream().map(q -> answer()).toList());
+            return response;
+        });
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Long> stats() {
+        return Map.of("calls", calls.get(), "queries", queries.get(), "injectedErrors", injectedErrors.get());
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    private <T> CompletableFuture<ResponseEntity<T>> delayed(Supplier<T> body) {
+        calls.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMs = Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        boolean fail = random.nextDouble() < errorRate;
+
+        CompletableFuture<ResponseEntity<T>> out = new CompletableFuture<>();
+        timer.schedule(() -> {
+            if (fail) {
+                injectedErrors.incrementAndGet();
+                out.complete(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+            } else {
+                out.complete(ResponseEntity.ok(body.get()));
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+        return out;
+    }
+
+    // Random team order; top confidence within [min, max], the rest share what is left of 100
+    private AiSearchResponse answer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> shuffled = new ArrayList<>(teams);
+        Collections.shuffle(shuffled, random);
+
+        double remaining = 100;
+        double top = topConfidenceMin + random.nextDouble() * (topConfidenceMax - topConfidenceMin);
+        List<AiTeamConfidence> confidences = new ArrayList<>();
+        for (int i = 0; i < shuffled.size(); i++) {
+            double c = i == 0 ? top : remaining * random.nextDouble();
+            c = Math.round(Math.min(c, remaining) * 100) / 100.0;
+            remaining -= c;
+            confidences.add(new AiTeamConfidence(shuffled.get(i), c, i + 1));
+        }
+
+        AiSearchResponse response = new AiSearchResponse();
+        response.setAutoAssign(top >= 80);
+        response.setTeams(confidences);
+        response.setResults(List.of());
+        return response;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.ticketrouting.ticket_routing_api.dto.CreateTicketRequest;
+import com.ticketrouting.ticket_routing_api.dto.TicketBatchResponse;
+import com.ticketrouting.ticket_routing_api.service.TicketBatchService;
+import com.ticketrouting.ticket_routing_api.service.TicketService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Ingestion throughput against the real database: the same number of tickets created one
+// POST at a time (TicketService.create, one transaction each) and through TicketBatchService.
+// Runs the single path first so both pay the same customer-upsert and sequence warm-up.
+@Profile("loadtest")
+@Component
+public class BatchIngestBenchmark {
+
+    public record Result(int tickets, int batchSize, long singleMillis, double singlePerSecond,
+                         long batchMillis, double batchPerSecond, long batchNotCreated, double speedup) {}
+
+    private final TicketService ticketService;
+    private final TicketBatchService batchService;
+
+    public BatchIngestBenchmark(TicketService ticketService, TicketBatchService batchService) {
+        this.ticketService = ticketService;
+        this.batchService = batchService;
+    }
+
+    public Result run(int tickets, int batchSize) {
+        String runTag = Long.toString(System.currentTimeMillis(), 36);
+
+        List<CreateTicketRequest> singles = requests(runTag + "-s", tickets);
+        long start = System.nanoTime();
+        for (CreateTicketRequest req : singles) {
+            ticketService.create(req);
+        }
+        long singleNanos = System.nanoTime() - start;
+
+        List<CreateTicketRequest> batched = requests(runTag + "-b", tickets);
+        long notCreated = 0;
+        start = System.nanoTime();
+        for (int from = 0; from < batched.size(); from += batchSize) {
+            TicketBatchResponse r = batchService.createBatch(
+                    batched.subList(from, Math.min(from + batchSize, batched.size())));
+            notCreated += r.getRejected() + r.getFailed();
+        }
+        long batchNanos = System.nanoTime() - start;
+
+        double singlePerSecond = tickets / (singleNanos / 1e9);
+        double batchPerSecond = (tickets - notCreated) / (batchNanos / 1e9);
+        System.out.println(">>> [LOADTEST] Ingest " + tickets + " tickets: single "
+                + Math.round(singlePerSecond) + "/s, batch " + Math.round(batchPerSecond) + "/s");
+        return new Result(tickets, batchSize, singleNanos / 1_000_000, singlePerSecond,
+                batchNanos / 1_000_000, batchPerSecond, notCreated, batchPerSecond / singlePerSecond);
+    }
+
+    // 200 requesters, so both paths mostly hit existing customers
+    private static List<CreateTicketRequest> requests(String runTag, int n) {
+        List<CreateTicketRequest> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            CreateTicketRequest req = new CreateTicketRequest();
+            req.setSubject("ingest benchmark " + runTag + " " + i);
+            req.setRequesterEmail("ingest" + (i % 200) + "@example.com");
+            req.setRequesterName("Ingest Benchmark");
+            out.add(req);
+        }
+        return out;
+    }
+}
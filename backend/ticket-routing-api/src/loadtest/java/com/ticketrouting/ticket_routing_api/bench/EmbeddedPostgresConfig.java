@@ -0,0 +1,33 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+
+// Load tests run against a throwaway local PostgreSQL, not H2: the outbox claim
+// (SKIP LOCKED), customer upsert (ON CONFLICT) and sequences need the real dialect.
+// The embedded server's own DataSource is unpooled; wrap its URL in Hikari so the pool
+// under test is the production one and spring.datasource.hikari.* still applies.
+@Profile("loadtest")
+@Configuration
+public class EmbeddedPostgresConfig {
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.builder().start();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(EmbeddedPostgres postgres) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSource.setUsername("postgres");
+        return dataSource;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.ticketrouting.ticket_routing_api.dto.LoadTestReport;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+@Profile("loadtest")
+@RestController
+@RequestMapping("/api/loadtest")
+public class LoadTestController {
+
+    private final LoadTestDriver driver;
+    private final BatchIngestBenchmark batchIngest;
+
+    public LoadTestController(LoadTestDriver driver, BatchIngestBenchmark batchIngest) {
+        this.driver = driver;
+        this.batchIngest = batchIngest;
+    }
+
+    // Blocks for the run plus the routing drain; one run at a time
+    @PostMapping("/run")
+    public LoadTestReport run(
+            @RequestParam(defaultValue = "50") double rate,
+            @RequestParam(defaultValue = "60") int durationSeconds
+    ) {
+        return driver.run(Math.max(0.1, rate), Math.max(1, durationSeconds));
+    }
+
+    // Tickets/s through POST /api/tickets one at a time vs POST /api/tickets/batch
+    @PostMapping("/batch-ingest")
+    public BatchIngestBenchmark.Result batchIngest(
+            @RequestParam(defaultValue = "5000") int tickets,
+            @RequestParam(defaultValue = "500") int batchSize
+    ) {
+        return batchIngest.run(Math.max(1, tickets), Math.max(1, batchSize));
+    }
+}
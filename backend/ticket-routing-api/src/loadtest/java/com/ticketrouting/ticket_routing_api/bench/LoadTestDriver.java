@@ -0,0 +1,230 @@
+package com.ticketrouting.ticket_routing_api.bench;
+
+import com.ticketrouting.ticket_routing_api.dto.CreateTicketRequest;
+import com.ticketrouting.ticket_routing_api.dto.LoadTestReport;
+import com.ticketrouting.ticket_routing_api.event.RoutingMetrics;
+import com.ticketrouting.ticket_routing_api.model.RoutingOutboxStatus;
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.repository.RoutingOutboxRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketDetailRepository;
+import com.ticketrouting.ticket_routing_api.service.TicketService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-loop load: issues ticket creates at a fixed rate (late arrivals are not skipped),
+// while a separate thread polls until each ticket is routed, i.e. its detail has ai_confidence set.
+// Latencies count from the time a create was due, not when it started, so a stalled
+// issuer shows up in the percentiles instead of hiding behind coordinated omission.
+// Creates go through TicketService, so the transaction, outbox and dispatcher are all real.
+@Profile("loadtest")
+@Component
+public class LoadTestDriver {
+
+    private static final String[] WORDS = {"pod", "node", "crashloopbackoff", "ingress", "dns", "timeout",
+            "volume", "pending", "scheduler", "oom", "service", "deployment", "rollout", "certificate"};
+    private static final int POLL_CHUNK = 1000;
+
+    private final TicketService ticketService;
+    private final TicketDetailRepository ticketDetailRepository;
+    private final RoutingOutboxRepository routingOutboxRepository;
+    private final RoutingMetrics routingMetrics;
+    private final AiServiceStubController stub;
+    private final int maxPendingCreates;
+    private final long pollMs;
+    private final long routeTimeoutMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public LoadTestDriver(
+            TicketService ticketService,
+            TicketDetailRepository ticketDetailRepository,
+            RoutingOutboxRepository routingOutboxRepository,
+            RoutingMetrics routingMetrics,
+            AiServiceStubController stub,
+            @Value("${loadtest.max-pending-creates:2000}") int maxPendingCreates,
+            @Value("${loadtest.poll-ms:50}") long pollMs,
+            @Value("${loadtest.route-timeout-ms:60000}") long routeTimeoutMs
+    ) {
+        this.ticketService = ticketService;
+        this.ticketDetailRepository = ticketDetailRepository;
+        this.routingOutboxRepository = routingOutboxRepository;
+        this.routingMetrics = routingMetrics;
+        this.stub = stub;
+        this.maxPendingCreates = maxPendingCreates;
+        this.pollMs = pollMs;
+        this.routeTimeoutMs = routeTimeoutMs;
+    }
+
+    public LoadTestReport run(double ratePerSecond, int durationSeconds) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A load test is already running");
+        }
+        try {
+            return drive(ratePerSecond, durationSeconds);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private LoadTestReport drive(double ratePerSecond, int durationSeconds) {
+        long outboxFailedBefore = routingOutboxRepository.countByStatus(RoutingOutboxStatus.FAILED);
+        long rejectedBefore = routingMetrics.executorRejectedCount();
+        long stubErrorsBefore = stub.getInjectedErrors();
+
+        long total = (long) (ratePerSecond * durationSeconds);
+        long intervalNanos = (long) (1e9 / ratePerSecond);
+
+        AtomicInteger pendingCreates = new AtomicInteger();
+        AtomicLong created = new AtomicLong();
+        AtomicLong createErrors = new AtomicLong();
+
+        Queue<Long> createNanos = new ConcurrentLinkedQueue<>();
+        Queue<Long> routedNanos = new ConcurrentLinkedQueue<>();
+        // ticketId -> nanoTime the create was due
+        Map<Long, Long> awaitingRoute = new ConcurrentHashMap<>();
+
+        // polling runs beside the pacing loop, so a slow poll query never delays a create
+        ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "loadtest-route-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                pollRouted(awaitingRoute, routedNanos);
+            } catch (RuntimeException e) {
+                System.out.println(">>> [LOADTEST] Route poll failed: " + e.getMessage());
+            }
+        }, pollMs, pollMs, TimeUnit.MILLISECONDS);
+
+        String runTag = Long.toString(System.currentTimeMillis(), 36);
+        long start = System.nanoTime();
+        long dropped = 0;
+        long issueEnd;
+        long end;
+
+        try {
+            try (ExecutorService creators = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (long i = 0; i < total; i++) {
+                    long due = start + i * intervalNanos;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) LockSupport.parkNanos(wait);
+
+                    // the system is not keeping up; count it rather than queue without bound
+                    if (pendingCreates.get() >= maxPendingCreates) {
+                        dropped++;
+                        continue;
+                    }
+
+                    pendingCreates.incrementAndGet();
+                    CreateTicketRequest req = request(runTag, i);
+                    creators.execute(() -> {
+                        try {
+                            Ticket t = ticketService.create(req);
+                            createNanos.add(System.nanoTime() - due);
+                            awaitingRoute.put(t.getId(), due);
+                            created.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            createErrors.incrementAndGet();
+                        } finally {
+                            pendingCreates.decrementAndGet();
+                        }
+                    });
+                }
+            }
+            issueEnd = System.nanoTime();
+
+            long deadline = issueEnd + TimeUnit.MILLISECONDS.toNanos(routeTimeoutMs);
+            while (!awaitingRoute.isEmpty() && System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pollMs));
+            }
+            end = System.nanoTime();
+        } finally {
+            poller.shutdownNow();
+            try {
+                poller.awaitTermination(routeTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        long[] createLatencies = sorted(createNanos);
+        long[] routeLatencies = sorted(routedNanos);
+        double issueSeconds = (issueEnd - start) / 1e9;
+        double totalSeconds = (end - start) / 1e9;
+
+        System.out.println(">>> [LOADTEST] " + created.get() + " created, " + routeLatencies.length + " routed, "
+                + dropped + " dropped, " + createErrors.get() + " create errors");
+
+        return new LoadTestReport(
+                ratePerSecond, durationSeconds, total, created.get(), createErrors.get(), dropped,
+                routeLatencies.length, awaitingRoute.size(),
+                created.get() / issueSeconds, routeLatencies.length / totalSeconds,
+                percentileMs(createLatencies, 0.50), percentileMs(createLatencies, 0.99),
+                percentileMs(routeLatencies, 0.50), percentileMs(routeLatencies, 0.99),
+                percentileMs(routeLatencies, 1.0),
+                routingOutboxRepository.countByStatus(RoutingOutboxStatus.FAILED) - outboxFailedBefore,
+                routingMetrics.executorRejectedCount() - rejectedBefore,
+                stub.getInjectedErrors() - stubErrorsBefore
+        );
+    }
+
+    // Latency resolution is the poll interval
+    private void pollRouted(Map<Long, Long> awaitingRoute, Queue<Long> routedNanos) {
+        List<Long> ids = new ArrayList<>(awaitingRoute.keySet());
+        for (int from = 0; from < ids.size(); from += POLL_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + POLL_CHUNK, ids.size()));
+            long now = System.nanoTime();
+            for (Long id : ticketDetailRepository.findRoutedTicketIds(chunk)) {
+                Long due = awaitingRoute.remove(id);
+                if (due != null) routedNanos.add(now - due);
+            }
+        }
+    }
+
+    // Unique subjects so the routing cache does not short-circuit the AI call
+    private static CreateTicketRequest request(String runTag, long i) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder subject = new StringBuilder();
+        for (int w = 0; w < 6; w++) {
+            subject.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        subject.append(runTag).append('-').append(i);
+
+        CreateTicketRequest req = new CreateTicketRequest();
+        req.setSubject(subject.toString());
+        req.setRequesterEmail("load" + random.nextInt(200) + "@example.com");
+        req.setRequesterName("Load Tester");
+        return req;
+    }
+
+    private static long[] sorted(Queue<Long> values) {
+        long[] out = values.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(out);
+        return out;
+    }
+
+    private static double percentileMs(long[] sortedNanos, double p) {
+        if (sortedNanos.length == 0) return 0;
+        int idx = Math.min(sortedNanos.length - 1, Math.max(0, (int) Math.ceil(sortedNanos.length * p) - 1));
+        return sortedNanos[idx] / 1e6;
+    }
+}
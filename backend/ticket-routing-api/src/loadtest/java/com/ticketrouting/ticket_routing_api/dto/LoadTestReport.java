@@ -0,0 +1,67 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class LoadTestReport {
+
+    private final double targetRate;
+    private final int durationSeconds;
+    private final long requested;
+    private final long created;
+    private final long createErrors;
+    private final long dropped;
+    private final long routed;
+    private final long notRouted;
+    private final double createdPerSecond;
+    private final double routedPerSecond;
+    private final double createP50Ms;
+    private final double createP99Ms;
+    private final double routedP50Ms;
+    private final double routedP99Ms;
+    private final double routedMaxMs;
+    private final long outboxFailed;
+    private final long executorRejected;
+    private final long stubInjectedErrors;
+
+    public LoadTestReport(double targetRate, int durationSeconds, long requested, long created, long createErrors,
+                          long dropped, long routed, long notRouted, double createdPerSecond, double routedPerSecond,
+                          double createP50Ms, double createP99Ms, double routedP50Ms, double routedP99Ms,
+                          double routedMaxMs, long outboxFailed, long executorRejected, long stubInjectedErrors) {
+        this.targetRate = targetRate;
+        this.durationSeconds = durationSeconds;
+        this.requested = requested;
+        this.created = created;
+        this.createErrors = createErrors;
+        this.dropped = dropped;
+        this.routed = routed;
+        this.notRouted = notRouted;
+        this.createdPerSecond = createdPerSecond;
+        this.routedPerSecond = routedPerSecond;
+        this.createP50Ms = createP50Ms;
+        this.createP99Ms = createP99Ms;
+        this.routedP50Ms = routedP50Ms;
+        this.routedP99Ms = routedP99Ms;
+        this.routedMaxMs = routedMaxMs;
+        this.outboxFailed = outboxFailed;
+        this.executorRejected = executorRejected;
+        this.stubInjectedErrors = stubInjectedErrors;
+    }
+
+    // getters only
+    public double getTargetRate() { return targetRate; }
+    public int getDurationSeconds() { return durationSeconds; }
+    public long getRequested() { return requested; }
+    public long getCreated() { return created; }
+    public long getCreateErrors() { return createErrors; }
+    public long getDropped() { return dropped; }
+    public long getRouted() { return routed; }
+    public long getNotRouted() { return notRouted; }
+    public double getCreatedPerSecond() { return createdPerSecond; }
+    public double getRoutedPerSecond() { return routedPerSecond; }
+    public double getCreateP50Ms() { return createP50Ms; }
+    public double getCreateP99Ms() { return createP99Ms; }
+    public double getRoutedP50Ms() { return routedP50Ms; }
+    public double getRoutedP99Ms() { return routedP99Ms; }
+    public double getRoutedMaxMs() { return routedMaxMs; }
+    public long getOutboxFailed() { return outboxFailed; }
+    public long getExecutorRejected() { return executorRejected; }
+    public long getStubInjectedErrors() { return stubInjectedErrors; }
+}
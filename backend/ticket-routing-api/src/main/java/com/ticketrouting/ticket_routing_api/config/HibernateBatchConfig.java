@@ -0,0 +1,22 @@
+package com.ticketrouting.ticket_routing_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateBatchConfig {
+
+    // Groups inserts/updates per table into JDBC batches (needs non-IDENTITY ids)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${tickets.batch.jdbc-batch-size:50}") int batchSize
+    ) {
+        return props -> {
+            props.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            props.putIfAbsent("hibernate.order_inserts", true);
+            props.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
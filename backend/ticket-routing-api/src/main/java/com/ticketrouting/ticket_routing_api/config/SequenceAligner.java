@@ -0,0 +1,59 @@
+package com.ticketrouting.ticket_routing_api.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+// Tables that moved from IDENTITY to pooled sequences already hold rows.
+// Before the first insert, push each sequence past MAX(id) so new blocks never collide.
+// Nodes starting together serialize on a transaction-scoped advisory lock, and a sequence that
+// is already past the target is left alone: setval never moves it back under a running node.
+@Component
+public class SequenceAligner {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "ticket_seq", "ticket",
+            "ticket_detail_seq", "ticket_detail",
+            "routing_outbox_seq", "routing_outbox",
+            "ticket_ai_team_confidence_seq", "ticket_ai_team_confidence"
+    );
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    // EntityManagerFactory dependency: schema update has created the sequences by now
+    public SequenceAligner(JdbcTemplate jdbc, EntityManagerFactory entityManagerFactory,
+                           PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach((sequence, table) -> {
+            try {
+                Long value = tx.execute(status -> {
+                    jdbc.execute("SELECT pg_advisory_xact_lock(hashtext('sequence-aligner'))");
+                    long target = jdbc.queryForObject(
+                            "SELECT COALESCE(MAX(id), 0) + " + ALLOCATION_SIZE + " FROM " + table, Long.class);
+                    List<Long> moved = jdbc.queryForList(
+                            "SELECT setval('" + sequence + "', ?) FROM " + sequence + " WHERE last_value < ?",
+                            Long.class, target, target);
+                    return moved.isEmpty() ? null : moved.get(0);
+                });
+                System.out.println(">>> [SEQUENCES] " + sequence
+                        + (value == null ? " already aligned" : " moved to " + value));
+            } catch (RuntimeException e) {
+                System.out.println(">>> [SEQUENCES] Could not align " + sequence + ": " + e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.ticketrouting.ticket_routing_api.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// ticket.subject used to be mapped @Lob, which PostgreSQL stores as an oid pointing at a large object.
+// Schema update never changes a column's type, so convert an existing oid column to TEXT once.
+@Component
+public class SubjectColumnMigrator {
+
+    private final JdbcTemplate jdbc;
+
+    // EntityManagerFactory dependency: schema update has run by now
+    public SubjectColumnMigrator(JdbcTemplate jdbc, EntityManagerFactory entityManagerFactory) {
+        this.jdbc = jdbc;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            String type = jdbc.queryForObject(
+                    "SELECT data_type FROM information_schema.columns " +
+                            "WHERE table_schema = current_schema() AND table_name = 'ticket' AND column_name = 'subject'",
+                    String.class);
+            if (!"oid".equals(type)) {
+                return;
+            }
+            jdbc.execute("ALTER TABLE ticket ALTER COLUMN subject TYPE TEXT " +
+                    "USING convert_from(lo_get(subject), 'UTF8')");
+            System.out.println(">>> [SCHEMA] ticket.subject converted from oid to TEXT");
+        } catch (RuntimeException e) {
+            System.out.println(">>> [SCHEMA] Could not convert ticket.subject: " + e.getMessage());
+        }
+    }
+}
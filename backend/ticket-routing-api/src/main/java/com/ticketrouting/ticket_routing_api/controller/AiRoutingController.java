@@ -0,0 +1,84 @@
+package com.ticketrouting.ticket_routing_api.controller;
+
+import com.ticketrouting.ticket_routing_api.dto.AiClientStats;
+import com.ticketrouting.ticket_routing_api.dto.LocalRoutingStats;
+import com.ticketrouting.ticket_routing_api.dto.RoutingBatchStats;
+import com.ticketrouting.ticket_routing_api.dto.RoutingCacheStats;
+import com.ticketrouting.ticket_routing_api.dto.RoutingEvaluationReport;
+import com.ticketrouting.ticket_routing_api.dto.RoutingOutboxStats;
+import com.ticketrouting.ticket_routing_api.event.AiRoutingCache;
+import com.ticketrouting.ticket_routing_api.event.AiRoutingClient;
+import com.ticketrouting.ticket_routing_api.event.CompositeRoutingEngine;
+import com.ticketrouting.ticket_routing_api.event.RoutingModelEvaluator;
+import com.ticketrouting.ticket_routing_api.event.RoutingOutboxDispatcher;
+import com.ticketrouting.ticket_routing_api.event.TicketRoutingBatcher;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ai")
+@CrossOrigin(origins = "http://localhost:4200")
+public class AiRoutingController {
+
+    private final AiRoutingClient client;
+    private final AiRoutingCache cache;
+    private final TicketRoutingBatcher batcher;
+    private final RoutingOutboxDispatcher outboxDispatcher;
+    private final CompositeRoutingEngine routingEngine;
+    private final RoutingModelEvaluator evaluator;
+
+    public AiRoutingController(AiRoutingClient client,
+                               AiRoutingCache cache,
+                               TicketRoutingBatcher batcher,
+                               RoutingOutboxDispatcher outboxDispatcher,
+                               CompositeRoutingEngine routingEngine,
+                               RoutingModelEvaluator evaluator) {
+        this.client = client;
+        this.cache = cache;
+        this.batcher = batcher;
+        this.outboxDispatcher = outboxDispatcher;
+        this.routingEngine = routingEngine;
+        this.evaluator = evaluator;
+    }
+
+    // adaptive limit, in-flight calls, shed count and circuit breaker state
+    @GetMapping("/routing-client")
+    public AiClientStats clientStats() {
+        return client.stats();
+    }
+
+    @GetMapping("/routing-cache")
+    public RoutingCacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    // Hook for the knowledge-base ingestion job
+    @DeleteMapping("/routing-cache")
+    public RoutingCacheStats invalidateCache() {
+        cache.invalidateAll();
+        return cache.stats();
+    }
+
+    @GetMapping("/routing-batcher")
+    public RoutingBatchStats batcherStats() {
+        return batcher.stats();
+    }
+
+    @GetMapping("/routing-outbox")
+    public RoutingOutboxStats outboxStats() {
+        return outboxDispatcher.stats();
+    }
+
+    @GetMapping("/local-model")
+    public LocalRoutingStats localModelStats() {
+        return routingEngine.stats();
+    }
+
+    // Holds out every k-th labeled ticket; remoteSamples of those are also sent to the Python service
+    @GetMapping("/local-model/evaluate")
+    public RoutingEvaluationReport evaluateLocalModel(
+            @RequestParam(defaultValue = "5") int holdoutEvery,
+            @RequestParam(defaultValue = "50") int remoteSamples
+    ) {
+        return evaluator.evaluate(Math.max(2, holdoutEvery), Math.max(0, remoteSamples));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ticketrouting.ticket_routing_api.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+// If-None-Match handling shared by the ticket read endpoints
+final class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    // true when the client's copy is current: the response is already a bodiless 304.
+    // The validator must be taken before the data is read, so a concurrent write can only
+    // make it older than the body, never newer.
+    static boolean notModified(WebRequest request, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        // keep browsers revalidating instead of guessing a freshness lifetime
+        if (request instanceof ServletWebRequest servlet && servlet.getResponse() != null) {
+            servlet.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        return request.checkNotModified(etag);
+    }
+}
@@ -1,6 +1,8 @@
 package com.ticketrouting.ticket_routing_api.controller;
 
+import com.ticketrouting.ticket_routing_api.dto.TeamDirectoryStats;
 import com.ticketrouting.ticket_routing_api.model.Team;
+import com.ticketrouting.ticket_routing_api.service.TeamDirectory;
 import com.ticketrouting.ticket_routing_api.service.TeamService;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,9 +14,11 @@ import java.util.List;
 public class TeamController {
 
     private final TeamService service;
+    private final TeamDirectory directory;
 
-    public TeamController(TeamService service) {
+    public TeamController(TeamService service, TeamDirectory directory) {
         this.service = service;
+        this.directory = directory;
     }
 
     @PostMapping
@@ -23,6 +27,10 @@ public class TeamController {
     @GetMapping
     public List<Team> findAll() { return service.findAll(); }
 
+    // name lookup cache used by routing: size, hit ratio, reloads
+    @GetMapping("/directory")
+    public TeamDirectoryStats directoryStats() { return directory.stats(); }
+
     @GetMapping("/{id}")
     public Team findById(@PathVariable Long id) { return service.findById(id); }
 
@@ -1,14 +1,32 @@
 package com.ticketrouting.ticket_routing_api.controller;
 
 import com.ticketrouting.ticket_routing_api.dto.CreateTicketRequest;
-import com.ticketrouting.ticket_routing_api.dto.TicketResponse;
+import com.ticketrouting.ticket_routing_api.dto.InvalidTicketQueryException;
+import com.ticketrouting.ticket_routing_api.dto.TicketAggregatesResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketChangesResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketBatchResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketPageResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketStreamStats;
+import com.ticketrouting.ticket_routing_api.event.TicketChangeBroadcaster;
+import com.ticketrouting.ticket_routing_api.event.TicketStreamFullException;
 import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.service.TicketAggregates;
+import com.ticketrouting.ticket_routing_api.service.TicketBatchService;
+import com.ticketrouting.ticket_routing_api.service.TicketBatchTooLargeException;
 import com.ticketrouting.ticket_routing_api.service.TicketService;
+import com.ticketrouting.ticket_routing_api.service.TicketVersions;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/tickets")
@@ -16,9 +34,19 @@ import java.util.List;
 public class TicketController {
 
     private final TicketService service;
+    private final TicketBatchService batchService;
+    private final TicketChangeBroadcaster broadcaster;
+    private final TicketVersions versions;
+    private final TicketAggregates aggregates;
 
-    public TicketController(TicketService service) {
+    public TicketController(TicketService service, TicketBatchService batchService,
+                            TicketChangeBroadcaster broadcaster, TicketVersions versions,
+                            TicketAggregates aggregates) {
         this.service = service;
+        this.batchService = batchService;
+        this.broadcaster = broadcaster;
+        this.versions = versions;
+        this.aggregates = aggregates;
     }
 
     @PostMapping
@@ -27,24 +55,98 @@ public class TicketController {
         return service.create(request);
     }
 
+    // Bulk ingestion: invalid items never block valid ones; only items that were not created are listed
+    @PostMapping("/batch")
+    public TicketBatchResponse createBatch(@RequestBody List<CreateTicketRequest> requests) {
+        return batchService.createBatch(requests);
+    }
+
     @GetMapping
-    public List<TicketResponse> list(
+    public TicketPageResponse list(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long teamId,
             @RequestParam(required = false) String teamName,
             @RequestParam(required = false) String priority,
-            @RequestParam(required = false) String search
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        // unchanged since the client's copy: 304 with no query and no JSON
+        if (ConditionalGet.notModified(request, versions.listEtag())) {
+            return null;
+        }
+        return service.listAsDto(status, teamId, teamName, priority, search, cursor, limit);
+    }
+
+    // Incremental sync: only tickets changed or deleted after ?since=, plus the next cursor
+    @GetMapping("/changes")
+    public TicketChangesResponse changes(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit
     ) {
-        System.out.println("Controller check"+teamName);
-        return service.listAsDto(status, teamId, teamName,priority, search);
+        return service.changesSince(since, limit);
+    }
+
+    // Queue sizes per team x priority from in-memory counters; no ticket rows are read
+    @GetMapping("/aggregates")
+    public TicketAggregatesResponse aggregates() {
+        return aggregates.snapshot();
+    }
+
+    // Recount from the DB now instead of waiting for the scheduled pass
+    @PostMapping("/aggregates/reconcile")
+    public TicketAggregatesResponse reconcileAggregates() {
+        return aggregates.reconcile();
+    }
+
+    // Live routing outcomes and reassignments; replaces polling the list
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return broadcaster.subscribe();
+    }
+
+    @GetMapping("/stream/stats")
+    public TicketStreamStats streamStats() {
+        return broadcaster.stats();
     }
 
     @GetMapping("/{id}")
-    public Ticket get(@PathVariable Long id) { return service.get(id); }
+    public Ticket get(@PathVariable Long id, WebRequest request) {
+        if (ConditionalGet.notModified(request, versions.ticketEtag(id))) {
+            return null;
+        }
+        return service.get(id);
+    }
 
     @PutMapping("/{id}")
     public Ticket update(@PathVariable Long id, @RequestBody Ticket t) { return service.update(id, t); }
 
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) { service.delete(id); }
+
+    // malformed ?cursor= / ?since= or an unknown status/priority: the client's mistake, not a 500
+    @ExceptionHandler(InvalidTicketQueryException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> badRequest(InvalidTicketQueryException e) {
+        return error(e);
+    }
+
+    @ExceptionHandler(TicketBatchTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public Map<String, String> batchTooLarge(TicketBatchTooLargeException e) {
+        return error(e);
+    }
+
+    // no body: the client asked for text/event-stream, which a JSON error could not be written as
+    @ExceptionHandler(TicketStreamFullException.class)
+    public ResponseEntity<Void> streamFull(TicketStreamFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .build();
+    }
+
+    private static Map<String, String> error(RuntimeException e) {
+        return Map.of("error", Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+    }
 }
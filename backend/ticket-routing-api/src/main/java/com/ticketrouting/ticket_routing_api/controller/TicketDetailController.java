@@ -2,7 +2,9 @@ package com.ticketrouting.ticket_routing_api.controller;
 
 import com.ticketrouting.ticket_routing_api.model.TicketDetail;
 import com.ticketrouting.ticket_routing_api.service.TicketDetailService;
+import com.ticketrouting.ticket_routing_api.service.TicketVersions;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/tickets/{ticketId}/detail")
@@ -10,13 +12,18 @@ import org.springframework.web.bind.annotation.*;
 public class TicketDetailController {
 
     private final TicketDetailService service;
+    private final TicketVersions versions;
 
-    public TicketDetailController(TicketDetailService service) {
+    public TicketDetailController(TicketDetailService service, TicketVersions versions) {
         this.service = service;
+        this.versions = versions;
     }
 
     @GetMapping
-    public TicketDetail get(@PathVariable Long ticketId) {
+    public TicketDetail get(@PathVariable Long ticketId, WebRequest request) {
+        if (ConditionalGet.notModified(request, versions.ticketEtag(ticketId))) {
+            return null;
+        }
         return service.getByTicketId(ticketId);
     }
 
@@ -0,0 +1,36 @@
+package com.ticketrouting.ticket_routing_api.controller;
+
+import com.ticketrouting.ticket_routing_api.dto.TicketReadModelStats;
+import com.ticketrouting.ticket_routing_api.dto.TicketViewConsistencyReport;
+import com.ticketrouting.ticket_routing_api.service.TicketViewProjector;
+import org.springframework.web.bind.annotation.*;
+
+// Operations on the ticket_view read model used by the ticket list
+@RestController
+@RequestMapping("/api/tickets/read-model")
+@CrossOrigin(origins = "http://localhost:4200")
+public class TicketReadModelController {
+
+    private final TicketViewProjector projector;
+
+    public TicketReadModelController(TicketViewProjector projector) {
+        this.projector = projector;
+    }
+
+    @GetMapping
+    public TicketReadModelStats stats() {
+        return projector.stats();
+    }
+
+    // Re-project every ticket from the source tables; blocks until done
+    @PostMapping("/rebuild")
+    public TicketReadModelStats rebuild() {
+        return projector.rebuild();
+    }
+
+    // ?repair=true re-queues every drifted ticket for projection
+    @GetMapping("/consistency")
+    public TicketViewConsistencyReport consistency(@RequestParam(defaultValue = "false") boolean repair) {
+        return projector.check(repair);
+    }
+}
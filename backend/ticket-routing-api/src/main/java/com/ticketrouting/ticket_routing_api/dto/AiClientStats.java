@@ -0,0 +1,35 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class AiClientStats {
+
+    private final int concurrencyLimit;
+    private final int maxConcurrency;
+    private final int inFlight;
+    private final int waiting;
+    private final long shed;
+    private final String breakerState;
+    private final long breakerOpened;
+    private final long breakerRejected;
+
+    public AiClientStats(int concurrencyLimit, int maxConcurrency, int inFlight, int waiting, long shed,
+                         String breakerState, long breakerOpened, long breakerRejected) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.maxConcurrency = maxConcurrency;
+        this.inFlight = inFlight;
+        this.waiting = waiting;
+        this.shed = shed;
+        this.breakerState = breakerState;
+        this.breakerOpened = breakerOpened;
+        this.breakerRejected = breakerRejected;
+    }
+
+    // getters only
+    public int getConcurrencyLimit() { return concurrencyLimit; }
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public int getInFlight() { return inFlight; }
+    public int getWaiting() { return waiting; }
+    public long getShed() { return shed; }
+    public String getBreakerState() { return breakerState; }
+    public long getBreakerOpened() { return breakerOpened; }
+    public long getBreakerRejected() { return breakerRejected; }
+}
@@ -0,0 +1,13 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+// A ticket read request the client got wrong: malformed cursor, unknown status or priority
+public class InvalidTicketQueryException extends RuntimeException {
+
+    public InvalidTicketQueryException(String message) {
+        super(message);
+    }
+
+    public InvalidTicketQueryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
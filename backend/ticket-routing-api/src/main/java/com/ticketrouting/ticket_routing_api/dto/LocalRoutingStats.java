@@ -0,0 +1,32 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class LocalRoutingStats {
+
+    private final String mode;
+    private final boolean ready;
+    private final long trainingDocs;
+    private final int teams;
+    private final long remoteServed;
+    private final long localFirstPass;
+    private final long localFallback;
+
+    public LocalRoutingStats(String mode, boolean ready, long trainingDocs, int teams,
+                             long remoteServed, long localFirstPass, long localFallback) {
+        this.mode = mode;
+        this.ready = ready;
+        this.trainingDocs = trainingDocs;
+        this.teams = teams;
+        this.remoteServed = remoteServed;
+        this.localFirstPass = localFirstPass;
+        this.localFallback = localFallback;
+    }
+
+    // getters only
+    public String getMode() { return mode; }
+    public boolean isReady() { return ready; }
+    public long getTrainingDocs() { return trainingDocs; }
+    public int getTeams() { return teams; }
+    public long getRemoteServed() { return remoteServed; }
+    public long getLocalFirstPass() { return localFirstPass; }
+    public long getLocalFallback() { return localFallback; }
+}
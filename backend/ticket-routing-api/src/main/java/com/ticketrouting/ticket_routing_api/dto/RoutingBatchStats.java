@@ -0,0 +1,37 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class RoutingBatchStats {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long lingerMs;
+    private final int queueDepth;
+    private final long batches;
+    private final long items;
+    private final long failedBatches;
+
+    public RoutingBatchStats(boolean enabled, int maxSize, long lingerMs, int queueDepth,
+                             long batches, long items, long failedBatches) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.lingerMs = lingerMs;
+        this.queueDepth = queueDepth;
+        this.batches = batches;
+        this.items = items;
+        this.failedBatches = failedBatches;
+    }
+
+    // getters only
+    public boolean isEnabled() { return enabled; }
+    public int getMaxSize() { return maxSize; }
+    public long getLingerMs() { return lingerMs; }
+    public int getQueueDepth() { return queueDepth; }
+    public long getBatches() { return batches; }
+    public long getItems() { return items; }
+    public long getFailedBatches() { return failedBatches; }
+
+    // average batch size relative to maxSize (1.0 = every batch was full)
+    public double getFillRatio() {
+        return batches == 0 ? 0.0 : (double) items / ((double) batches * maxSize);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class RoutingCacheStats {
+
+    private final int size;
+    private final int maxEntries;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+
+    public RoutingCacheStats(int size, int maxEntries, long hits, long misses, long evictions, long invalidations) {
+        this.size = size;
+        this.maxEntries = maxEntries;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+    }
+
+    // getters only
+    public int getSize() { return size; }
+    public int getMaxEntries() { return maxEntries; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; }
+    public long getInvalidations() { return invalidations; }
+
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class RoutingEvaluationReport {
+
+    private int trainingSize;
+    private int holdoutSize;
+
+    private double localAccuracy;
+    private double localMeanMicros;
+    private double localP99Micros;
+
+    private int remoteSamples;
+    private int remoteErrors;
+    private double remoteAccuracy;
+    private double remoteMeanMillis;
+    private double remoteP99Millis;
+
+    public int getTrainingSize() { return trainingSize; }
+    public void setTrainingSize(int trainingSize) { this.trainingSize = trainingSize; }
+
+    public int getHoldoutSize() { return holdoutSize; }
+    public void setHoldoutSize(int holdoutSize) { this.holdoutSize = holdoutSize; }
+
+    public double getLocalAccuracy() { return localAccuracy; }
+    public void setLocalAccuracy(double localAccuracy) { this.localAccuracy = localAccuracy; }
+
+    public double getLocalMeanMicros() { return localMeanMicros; }
+    public void setLocalMeanMicros(double localMeanMicros) { this.localMeanMicros = localMeanMicros; }
+
+    public double getLocalP99Micros() { return localP99Micros; }
+    public void setLocalP99Micros(double localP99Micros) { this.localP99Micros = localP99Micros; }
+
+    public int getRemoteSamples() { return remoteSamples; }
+    public void setRemoteSamples(int remoteSamples) { this.remoteSamples = remoteSamples; }
+
+    public int getRemoteErrors() { return remoteErrors; }
+    public void setRemoteErrors(int remoteErrors) { this.remoteErrors = remoteErrors; }
+
+    public double getRemoteAccuracy() { return remoteAccuracy; }
+    public void setRemoteAccuracy(double remoteAccuracy) { this.remoteAccuracy = remoteAccuracy; }
+
+    public double getRemoteMeanMillis() { return remoteMeanMillis; }
+    public void setRemoteMeanMillis(double remoteMeanMillis) { this.remoteMeanMillis = remoteMeanMillis; }
+
+    public double getRemoteP99Millis() { return remoteP99Millis; }
+    public void setRemoteP99Millis(double remoteP99Millis) { this.remoteP99Millis = remoteP99Millis; }
+}
@@ -0,0 +1,32 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class RoutingOutboxStats {
+
+    private final long pending;
+    private final int inFlight;
+    private final int batchSize;
+    private final long dispatched;
+    private final long succeeded;
+    private final long failed;
+    private final long deferred;
+
+    public RoutingOutboxStats(long pending, int inFlight, int batchSize,
+                              long dispatched, long succeeded, long failed, long deferred) {
+        this.pending = pending;
+        this.inFlight = inFlight;
+        this.batchSize = batchSize;
+        this.dispatched = dispatched;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.deferred = deferred;
+    }
+
+    // getters only
+    public long getPending() { return pending; }
+    public int getInFlight() { return inFlight; }
+    public int getBatchSize() { return batchSize; }
+    public long getDispatched() { return dispatched; }
+    public long getSucceeded() { return succeeded; }
+    public long getFailed() { return failed; }
+    public long getDeferred() { return deferred; }
+}
@@ -0,0 +1,35 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.time.LocalDateTime;
+
+public class TeamDirectoryStats {
+
+    private final int teams;
+    private final int aliases;
+    private final long hits;
+    private final long misses;
+    private final long reloads;
+    private final LocalDateTime lastReloadAt;
+
+    public TeamDirectoryStats(int teams, int aliases, long hits, long misses, long reloads, LocalDateTime lastReloadAt) {
+        this.teams = teams;
+        this.aliases = aliases;
+        this.hits = hits;
+        this.misses = misses;
+        this.reloads = reloads;
+        this.lastReloadAt = lastReloadAt;
+    }
+
+    // getters only
+    public int getTeams() { return teams; }
+    public int getAliases() { return aliases; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getReloads() { return reloads; }
+    public LocalDateTime getLastReloadAt() { return lastReloadAt; }
+
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class TicketAggregatesResponse {
+
+    private final Map<String, Map<String, Long>> openByTeamAndPriority;
+    private final Map<String, Long> byStatus;
+    private final long unassignedAwaitingAi;
+    private final long total;
+    private final LocalDateTime lastReconciledAt;
+    private final long lastDrift;
+    private final long reconciliations;
+
+    public TicketAggregatesResponse(Map<String, Map<String, Long>> openByTeamAndPriority, Map<String, Long> byStatus,
+                                    long unassignedAwaitingAi, long total, LocalDateTime lastReconciledAt,
+                                    long lastDrift, long reconciliations) {
+        this.openByTeamAndPriority = openByTeamAndPriority;
+        this.byStatus = byStatus;
+        this.unassignedAwaitingAi = unassignedAwaitingAi;
+        this.total = total;
+        this.lastReconciledAt = lastReconciledAt;
+        this.lastDrift = lastDrift;
+        this.reconciliations = reconciliations;
+    }
+
+    // getters only
+    // team name ("Unassigned" for none) -> priority -> tickets not RESOLVED
+    public Map<String, Map<String, Long>> getOpenByTeamAndPriority() { return openByTeamAndPriority; }
+    public Map<String, Long> getByStatus() { return byStatus; }
+    // no team yet and no routing outcome stored
+    public long getUnassignedAwaitingAi() { return unassignedAwaitingAi; }
+    public long getTotal() { return total; }
+    public LocalDateTime getLastReconciledAt() { return lastReconciledAt; }
+    // counts the last reconciliation had to correct; non-zero means writes raced or bypassed the service layer
+    public long getLastDrift() { return lastDrift; }
+    public long getReconciliations() { return reconciliations; }
+}
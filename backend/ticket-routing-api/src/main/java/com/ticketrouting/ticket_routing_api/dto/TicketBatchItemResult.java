@@ -0,0 +1,32 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+// An item of POST /api/tickets/batch that was not created
+public class TicketBatchItemResult {
+
+    public enum Status { REJECTED, FAILED }
+
+    private final int index;
+    private final Status status;
+    private final String error;
+
+    private TicketBatchItemResult(int index, Status status, String error) {
+        this.index = index;
+        this.status = status;
+        this.error = error;
+    }
+
+    // invalid input; nothing was written
+    public static TicketBatchItemResult rejected(int index, String error) {
+        return new TicketBatchItemResult(index, Status.REJECTED, error);
+    }
+
+    // its chunk's transaction rolled back
+    public static TicketBatchItemResult failed(int index, String error) {
+        return new TicketBatchItemResult(index, Status.FAILED, error);
+    }
+
+    // getters only
+    public int getIndex() { return index; }
+    public Status getStatus() { return status; }
+    public String getError() { return error; }
+}
@@ -0,0 +1,33 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.util.List;
+
+// items lists only rejected and failed entries, at most tickets.batch.max-item-results of them;
+// created tickets are counted, and show up on /api/tickets/changes like any other create
+public class TicketBatchResponse {
+
+    private final int created;
+    private final int rejected;
+    private final int failed;
+    private final long elapsedMillis;
+    private final List<TicketBatchItemResult> items;
+    private final boolean itemsTruncated;
+
+    public TicketBatchResponse(int created, int rejected, int failed, long elapsedMillis,
+                               List<TicketBatchItemResult> items, boolean itemsTruncated) {
+        this.created = created;
+        this.rejected = rejected;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+        this.items = items;
+        this.itemsTruncated = itemsTruncated;
+    }
+
+    // getters only
+    public int getCreated() { return created; }
+    public int getRejected() { return rejected; }
+    public int getFailed() { return failed; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public List<TicketBatchItemResult> getItems() { return items; }
+    public boolean isItemsTruncated() { return itemsTruncated; }
+}
@@ -0,0 +1,52 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Opaque change-feed position: (updated_at, id) of the last change a client has applied.
+// Ticket updates and tombstones share one ordering, so one cursor covers both.
+public class TicketChangeCursor {
+
+    // no cursor yet: the first pages are a full sync
+    public static final TicketChangeCursor START = new TicketChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime changedAt;
+    private final Long id;
+
+    public TicketChangeCursor(LocalDateTime changedAt, Long id) {
+        this.changedAt = changedAt;
+        this.id = id;
+    }
+
+    public static TicketChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new TicketChangeCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidTicketQueryException("Invalid change cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = changedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // feed order: changedAt, then id
+    public int compareTo(LocalDateTime otherAt, Long otherId) {
+        int c = changedAt.compareTo(otherAt);
+        return c != 0 ? c : id.compareTo(otherId);
+    }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public Long getId() { return id; }
+}
@@ -0,0 +1,29 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.util.List;
+
+public class TicketChangesResponse {
+
+    private final List<TicketResponse> changed;
+    private final List<TicketTombstoneResponse> deleted;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public TicketChangesResponse(List<TicketResponse> changed, List<TicketTombstoneResponse> deleted,
+                                 String nextCursor, boolean hasMore) {
+        this.changed = changed;
+        this.deleted = deleted;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // getters only
+    public List<TicketResponse> getChanged() { return changed; }
+    public List<TicketTombstoneResponse> getDeleted() { return deleted; }
+
+    // never null: pass it back as ?since= on the next call, even when nothing changed
+    public String getNextCursor() { return nextCursor; }
+
+    // true when another call right away would return more changes
+    public boolean isHasMore() { return hasMore; }
+}
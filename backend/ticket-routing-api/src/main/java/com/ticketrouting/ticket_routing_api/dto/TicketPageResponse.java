@@ -0,0 +1,28 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.util.List;
+
+public class TicketPageResponse {
+
+    private List<TicketResponse> items;
+    private String nextCursor;
+    private int limit;
+
+    public TicketPageResponse() {}
+
+    public TicketPageResponse(List<TicketResponse> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<TicketResponse> getItems() { return items; }
+    public void setItems(List<TicketResponse> items) { this.items = items; }
+
+    // null when there are no more rows
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
@@ -0,0 +1,42 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.time.LocalDateTime;
+
+public class TicketReadModelStats {
+
+    private final boolean enabled;
+    private final int pending;
+    private final long projected;
+    private final long removed;
+    private final long failedBatches;
+    private final double lastLagMs;
+    private final long rebuilds;
+    private final long lastRebuildRows;
+    private final LocalDateTime lastRebuildAt;
+
+    public TicketReadModelStats(boolean enabled, int pending, long projected, long removed, long failedBatches,
+                                double lastLagMs, long rebuilds, long lastRebuildRows, LocalDateTime lastRebuildAt) {
+        this.enabled = enabled;
+        this.pending = pending;
+        this.projected = projected;
+        this.removed = removed;
+        this.failedBatches = failedBatches;
+        this.lastLagMs = lastLagMs;
+        this.rebuilds = rebuilds;
+        this.lastRebuildRows = lastRebuildRows;
+        this.lastRebuildAt = lastRebuildAt;
+    }
+
+    // getters only
+    public boolean isEnabled() { return enabled; }
+    // tickets changed and not yet written to ticket_view
+    public int getPending() { return pending; }
+    public long getProjected() { return projected; }
+    public long getRemoved() { return removed; }
+    public long getFailedBatches() { return failedBatches; }
+    // commit -> visible in ticket_view, for the most recent projection batch
+    public double getLastLagMs() { return lastLagMs; }
+    public long getRebuilds() { return rebuilds; }
+    public long getLastRebuildRows() { return lastRebuildRows; }
+    public LocalDateTime getLastRebuildAt() { return lastRebuildAt; }
+}
@@ -1,8 +1,10 @@
 package com.ticketrouting.ticket_routing_api.dto;
 
 import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.model.TicketView;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public class TicketResponse {
@@ -19,6 +21,7 @@ public class TicketResponse {
     private String assignedTeamName;
 
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 
     // ✅ change: use DTO not entity
     private TicketDetailResponse ticketDetail;
@@ -49,6 +52,7 @@ public class TicketResponse {
         r.setStatus(t.getStatus() != null ? t.getStatus().toString() : null);
         r.setPriority(t.getPriority() != null ? t.getPriority().toString() : null);
         r.setCreatedAt(t.getCreatedAt());
+        r.setUpdatedAt(t.getUpdatedAt());
 
         if (t.getRequester() != null) {
             r.setRequesterName(t.getRequester().getFullName());
@@ -66,6 +70,32 @@ public class TicketResponse {
         return r;
     }
 
+    // Same shape as from(Ticket), read from the single ticket_view row
+    public static TicketResponse from(TicketView v) {
+        TicketResponse r = new TicketResponse(v.getTicketId(), v.getTicketNumber(), v.getSubject(),
+                v.getStatus() != null ? v.getStatus().toString() : null,
+                v.getPriority() != null ? v.getPriority().toString() : null,
+                v.getRequesterName(), v.getRequesterEmail(), v.getAssignedTeamName(), v.getCreatedAt());
+        r.setUpdatedAt(v.getUpdatedAt());
+
+        if (v.getDetailCreatedAt() != null) {
+            TicketDetailResponse d = new TicketDetailResponse();
+            d.setAiConfidenceScore(v.getAiConfidence());
+            d.setAiPredictedTeam(v.getAiSuggestedTeam());
+            d.setCreatedAt(v.getDetailCreatedAt());
+            r.setTicketDetail(d);
+        }
+
+        List<AiTeamConfidence> teams = new ArrayList<>(3);
+        if (v.getTeam1Name() != null) teams.add(new AiTeamConfidence(v.getTeam1Name(), v.getTeam1Confidence(), 1));
+        if (v.getTeam2Name() != null) teams.add(new AiTeamConfidence(v.getTeam2Name(), v.getTeam2Confidence(), 2));
+        if (v.getTeam3Name() != null) teams.add(new AiTeamConfidence(v.getTeam3Name(), v.getTeam3Confidence(), 3));
+        if (!teams.isEmpty()) {
+            r.setTeams(teams);
+        }
+        return r;
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
@@ -93,6 +123,9 @@ public class TicketResponse {
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
     // ✅ add proper getter/setter
     public TicketDetailResponse getTicketDetail() { return ticketDetail; }
     public void setTicketDetail(TicketDetailResponse ticketDetail) { this.ticketDetail = ticketDetail; }
@@ -0,0 +1,29 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+public class TicketStreamStats {
+
+    private final int subscribers;
+    private final int bufferSize;
+    private final long published;
+    private final long delivered;
+    private final long overflows;
+    private final long disconnects;
+
+    public TicketStreamStats(int subscribers, int bufferSize, long published, long delivered,
+                             long overflows, long disconnects) {
+        this.subscribers = subscribers;
+        this.bufferSize = bufferSize;
+        this.published = published;
+        this.delivered = delivered;
+        this.overflows = overflows;
+        this.disconnects = disconnects;
+    }
+
+    // getters only
+    public int getSubscribers() { return subscribers; }
+    public int getBufferSize() { return bufferSize; }
+    public long getPublished() { return published; }
+    public long getDelivered() { return delivered; }
+    public long getOverflows() { return overflows; }
+    public long getDisconnects() { return disconnects; }
+}
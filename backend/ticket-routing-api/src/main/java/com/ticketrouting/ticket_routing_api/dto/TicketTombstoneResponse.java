@@ -0,0 +1,27 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import com.ticketrouting.ticket_routing_api.model.TicketTombstone;
+
+import java.time.LocalDateTime;
+
+public class TicketTombstoneResponse {
+
+    private final Long id;
+    private final String ticketNumber;
+    private final LocalDateTime deletedAt;
+
+    public TicketTombstoneResponse(Long id, String ticketNumber, LocalDateTime deletedAt) {
+        this.id = id;
+        this.ticketNumber = ticketNumber;
+        this.deletedAt = deletedAt;
+    }
+
+    public static TicketTombstoneResponse from(TicketTombstone t) {
+        return new TicketTombstoneResponse(t.getTicketId(), t.getTicketNumber(), t.getDeletedAt());
+    }
+
+    // getters only
+    public Long getId() { return id; }
+    public String getTicketNumber() { return ticketNumber; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+}
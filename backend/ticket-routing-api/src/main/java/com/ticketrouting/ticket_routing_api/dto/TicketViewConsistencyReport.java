@@ -0,0 +1,37 @@
+package com.ticketrouting.ticket_routing_api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TicketViewConsistencyReport {
+
+    private final LocalDateTime checkedAt;
+    private final long missing;
+    private final long stale;
+    private final long orphaned;
+    private final List<Long> sampleIds;
+    private final boolean repairQueued;
+
+    public TicketViewConsistencyReport(LocalDateTime checkedAt, long missing, long stale, long orphaned,
+                                       List<Long> sampleIds, boolean repairQueued) {
+        this.checkedAt = checkedAt;
+        this.missing = missing;
+        this.stale = stale;
+        this.orphaned = orphaned;
+        this.sampleIds = sampleIds;
+        this.repairQueued = repairQueued;
+    }
+
+    // getters only
+    public LocalDateTime getCheckedAt() { return checkedAt; }
+    // tickets with no ticket_view row
+    public long getMissing() { return missing; }
+    // rows whose ticket, team or requester changed since they were projected
+    public long getStale() { return stale; }
+    // rows whose ticket no longer exists
+    public long getOrphaned() { return orphaned; }
+    public List<Long> getSampleIds() { return sampleIds; }
+    public boolean isRepairQueued() { return repairQueued; }
+
+    public boolean isConsistent() { return missing == 0 && stale == 0 && orphaned == 0; }
+}
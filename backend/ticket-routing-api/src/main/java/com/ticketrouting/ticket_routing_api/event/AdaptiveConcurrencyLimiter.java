@@ -0,0 +1,108 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// AIMD concurrency limit driven by observed call latency.
+// Fast successes grow the limit by ~1 per "window" of calls; slow calls and failures shrink it.
+// Calls over the limit wait in FIFO order for a permit instead of being refused;
+// only a wait that outlasts its timeout is shed.
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double DECREASE_RATIO = 0.9;
+    private static final double FAILURE_RATIO = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    private double limit;
+    private int inFlight;
+    private long shed;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    // Completes once a permit is held; fails with TimeoutException if none frees up within the timeout
+    public CompletableFuture<Void> acquire(long timeoutNanos) {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            waiter = new CompletableFuture<>();
+            waiters.addLast(waiter);
+        }
+        waiter.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS).whenComplete((v, e) -> {
+            if (e != null) {
+                synchronized (this) {
+                    if (waiters.remove(waiter)) {
+                        shed++;
+                    }
+                }
+            }
+        });
+        return waiter;
+    }
+
+    public void onSuccess(long latencyNanos) {
+        synchronized (this) {
+            inFlight--;
+            if (latencyNanos <= targetLatencyNanos) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            } else {
+                limit = Math.max(minLimit, limit * DECREASE_RATIO);
+            }
+        }
+        grant();
+    }
+
+    public void onFailure() {
+        synchronized (this) {
+            inFlight--;
+            limit = Math.max(minLimit, limit * FAILURE_RATIO);
+        }
+        grant();
+    }
+
+    // Released without a signal about the service (e.g. the request never went out)
+    public void onIgnore() {
+        synchronized (this) {
+            inFlight--;
+        }
+        grant();
+    }
+
+    // Hands freed permits to waiters. Completed outside the lock: the waiter's continuation sends the request.
+    private void grant() {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                granted.add(waiters.pollFirst());
+                inFlight++;
+            }
+        }
+        for (CompletableFuture<Void> waiter : granted) {
+            // timed out between the poll and here: give the permit back
+            if (!waiter.complete(null)) {
+                onIgnore();
+            }
+        }
+    }
+
+    public synchronized int getLimit() { return (int) limit; }
+    public synchronized int getInFlight() { return inFlight; }
+    public synchronized int getWaiting() { return waiters.size(); }
+    public synchronized long getShed() { return shed; }
+    public int getMaxLimit() { return maxLimit; }
+}
@@ -0,0 +1,17 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import java.util.List;
+
+// Reply of /pdf_search/query_batch: one response per query, same order
+public class AiBatchSearchResponse {
+
+    private List<AiSearchResponse> responses;
+
+    public List<AiSearchResponse> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(List<AiSearchResponse> responses) {
+        this.responses = responses;
+    }
+}
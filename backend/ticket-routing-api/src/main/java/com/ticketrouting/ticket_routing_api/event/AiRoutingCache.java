@@ -0,0 +1,87 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.RoutingCacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded LRU + TTL cache of AI routing responses keyed by normalized subject
+@Component
+public class AiRoutingCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AiRoutingCache(
+            @Value("${ai.routing.cache.max-entries:10000}") int maxEntries,
+            @Value("${ai.routing.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    // "Pod stuck in CrashLoopBackOff!!" and "pod  stuck in crashloopbackoff" share a key
+    public static String normalize(String subject) {
+        if (subject == null) return "";
+        return subject.toLowerCase(Locale.ROOT)
+                .replaceAll("[\\p{Punct}\\p{IsPunctuation}]+", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    public synchronized AiSearchResponse get(String key) {
+        Entry e = entries.get(key);
+        if (e == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (e.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return e.response;
+    }
+
+    public synchronized void put(String key, AiSearchResponse response) {
+        entries.put(key, new Entry(response, System.currentTimeMillis() + ttlMillis));
+
+        if (entries.size() > maxEntries) {
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    // Call after the knowledge base is re-ingested: cached team scores are stale
+    public synchronized void invalidateAll() {
+        entries.clear();
+        invalidations.incrementAndGet();
+    }
+
+    public synchronized RoutingCacheStats stats() {
+        return new RoutingCacheStats(
+                entries.size(), maxEntries,
+                hits.get(), misses.get(), evictions.get(), invalidations.get()
+        );
+    }
+
+    private record Entry(AiSearchResponse response, long expiresAt) {}
+}
@@ -1,25 +1,294 @@
 package com.ticketrouting.ticket_routing_api.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketrouting.ticket_routing_api.dto.AiClientStats;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+// Client for the Python FAISS routing service. Uses one shared, keep-alive JDK HttpClient;
+// calls are asynchronous so in-flight requests do not each pin a thread.
+// Every call passes a circuit breaker and an adaptive (AIMD) concurrency limit first;
+// calls over the limit wait for a permit rather than fail.
 @Service
-public class AiRoutingClient {
+public class AiRoutingClient implements RoutingEngine {
 
-    private static final String AI_BASE_URL = "http://127.0.0.1:8000/pdf_search/query";
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final long permitTimeoutNanos;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final AiRoutingCache cache;
+
+    // caps concurrent requests, and with it the number of pooled connections
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final CircuitBreaker breaker;
+    private final RoutingMetrics metrics;
+
+    public AiRoutingClient(
+            @Value("${ai.routing.base-url:http://127.0.0.1:8000/pdf_search}") String baseUrl,
+            @Value("${ai.routing.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${ai.routing.request-timeout-ms:10000}") long requestTimeoutMs,
+            @Value("${ai.routing.max-connections:16}") int maxConnections,
+            @Value("${ai.routing.limiter.min:1}") int minConcurrency,
+            @Value("${ai.routing.limiter.target-latency-ms:2000}") long targetLatencyMs,
+            @Value("${ai.routing.limiter.queue-timeout-ms:10000}") long permitTimeoutMs,
+            @Value("${ai.routing.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ai.routing.breaker.open-ms:30000}") long breakerOpenMs,
+            @Value("${ai.routing.breaker.half-open-trials:3}") int halfOpenTrials,
+            ObjectMapper objectMapper,
+            AiRoutingCache cache,
+            RoutingMetrics metrics
+    ) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.permitTimeoutNanos = Duration.ofMillis(permitTimeoutMs).toNanos();
+        this.objectMapper = objectMapper;
+        this.cache = cache;
+        this.limiter = new AdaptiveConcurrencyLimiter(
+                Math.max(minConcurrency, maxConnections / 2), minConcurrency, maxConnections,
+                Duration.ofMillis(targetLatencyMs).toNanos());
+        this.breaker = new CircuitBreaker(failureThreshold, breakerOpenMs, halfOpenTrials);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        this.metrics = metrics;
+        metrics.gauge("routing.ai.limit", "Current adaptive concurrency limit",
+                limiter, AdaptiveConcurrencyLimiter::getLimit);
+        metrics.gauge("routing.ai.in.flight", "AI calls in flight",
+                limiter, AdaptiveConcurrencyLimiter::getInFlight);
+        metrics.gauge("routing.ai.waiting", "AI calls waiting for a concurrency permit",
+                limiter, AdaptiveConcurrencyLimiter::getWaiting);
+        metrics.gauge("routing.ai.breaker.open", "1 while the circuit breaker is not closed",
+                breaker, b -> b.getState() == CircuitBreaker.State.CLOSED ? 0 : 1);
+    }
 
     public AiSearchResponse search(String subject) {
+        return join(searchAsync(subject));
+    }
+
+    public List<AiSearchResponse> searchBatch(List<String> subjects) {
+        return join(searchBatchAsync(subjects));
+    }
+
+    public CompletableFuture<AiSearchResponse> searchAsync(String subject) {
+        String key = AiRoutingCache.normalize(subject);
+        AiSearchResponse cached = cache.get(key);
+        if (cached != null) {
+            System.out.println(">>> [AI-CLIENT] cache hit subject=" + subject);
+            return CompletableFuture.completedFuture(cached);
+        }
+
         System.out.println(">>> [AI-CLIENT] subject=" + subject);
-        String url = UriComponentsBuilder
-                .fromHttpUrl(AI_BASE_URL)
-                .queryParam("query", subject)
-                .toUriString();
+        return send(queryRequest(subject), AiSearchResponse.class)
+                .thenApply(response -> {
+                    cacheIfUsable(key, response);
+                    return response;
+                });
+    }
+
+    // Blocking call straight to the service: no cache, breaker or limiter. For measurements only.
+    public AiSearchResponse searchDirect(String subject) {
+        HttpRequest request = queryRequest(subject);
+        try {
+            HttpResponse<byte[]> r = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (r.statusCode() / 100 != 2) {
+                throw new AiServiceException("AI service returned HTTP " + r.statusCode()
+                        + " for " + request.uri().getPath());
+            }
+            return objectMapper.readValue(r.body(), AiSearchResponse.class);
+        } catch (IOException e) {
+            throw new AiServiceException("AI service call failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceException("AI service call interrupted", e);
+        }
+    }
+
+    // One response per subject, same order. Cache hits and duplicate subjects are not sent.
+    public CompletableFuture<List<AiSearchResponse>> searchBatchAsync(List<String> subjects) {
+        AiSearchResponse[] out = new AiSearchResponse[subjects.size()];
+
+        // normalized key -> positions in the input still waiting for an answer
+        Map<String, List<Integer>> pending = new LinkedHashMap<>();
+        Map<String, String> firstSubject = new LinkedHashMap<>();
+        for (int i = 0; i < subjects.size(); i++) {
+            String key = AiRoutingCache.normalize(subjects.get(i));
+            AiSearchResponse cached = cache.get(key);
+            if (cached != null) {
+                out[i] = cached;
+                continue;
+            }
+            pending.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            firstSubject.putIfAbsent(key, subjects.get(i));
+        }
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(out));
+        }
+
+        List<String> keys = new ArrayList<>(pending.keySet());
+        List<String> queries = keys.stream().map(firstSubject::get).toList();
+        System.out.println(">>> [AI-CLIENT] batch of " + queries.size() + " subjects");
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/query_batch"))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(Map.of("queries", queries))))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new AiServiceException("Cannot encode batch request", e));
+        }
+
+        return send(request, AiBatchSearchResponse.class)
+                .thenApply(batch -> {
+                    List<AiSearchResponse> responses = batch != null && batch.getResponses() != null
+                            ? batch.getResponses()
+                            : List.of();
+
+                    for (int j = 0; j < keys.size(); j++) {
+                        AiSearchResponse response = j < responses.size() ? responses.get(j) : null;
+                        cacheIfUsable(keys.get(j), response);
+                        for (int i : pending.get(keys.get(j))) {
+                            out[i] = response;
+                        }
+                    }
+                    return Arrays.asList(out);
+                });
+    }
+
+    @Override
+    public CompletableFuture<AiSearchResponse> routeAsync(String subject) {
+        return searchAsync(subject);
+    }
+
+    @Override
+    public CompletableFuture<List<AiSearchResponse>> routeBatchAsync(List<String> subjects) {
+        return searchBatchAsync(subjects);
+    }
+
+    // false while the breaker is open, or while a full window of calls is already waiting:
+    // callers should defer work instead of queueing more of it
+    @Override
+    public boolean isAvailable() {
+        return breaker.isCallPermitted() && limiter.getWaiting() < limiter.getLimit();
+    }
+
+    public AiClientStats stats() {
+        return new AiClientStats(
+                limiter.getLimit(), limiter.getMaxLimit(), limiter.getInFlight(), limiter.getWaiting(), limiter.getShed(),
+                breaker.getState().name(), breaker.getOpened(), breaker.getRejected()
+        );
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, Class<T> type) {
+        String endpoint = request.uri().getPath().substring(request.uri().getPath().lastIndexOf('/') + 1);
+        if (!breaker.tryAcquire()) {
+            metrics.recordAiCall(endpoint, "rejected", 0);
+            return CompletableFuture.failedFuture(
+                    new AiServiceUnavailableException("AI service circuit is open"));
+        }
+        return limiter.acquire(permitTimeoutNanos)
+                .handle((v, e) -> e)
+                .thenCompose(e -> {
+                    if (e != null) {
+                        breaker.release();
+                        metrics.recordAiCall(endpoint, "rejected", 0);
+                        return CompletableFuture.failedFuture(
+                                new AiServiceBusyException("No AI concurrency permit within the queue timeout"));
+                    }
+                    return call(request, type, endpoint);
+                });
+    }
+
+    // Runs holding a limiter permit and a breaker slot; releases both
+    private <T> CompletableFuture<T> call(HttpRequest request, Class<T> type, String endpoint) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> sent;
+        try {
+            sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            // never went out: says nothing about the service
+            limiter.onIgnore();
+            breaker.release();
+            return CompletableFuture.failedFuture(new AiServiceException("AI request not sent: " + e.getMessage(), e));
+        }
+        return sent
+                .handle((r, e) -> {
+                    long latency = System.nanoTime() - start;
+                    boolean ok = e == null && r.statusCode() / 100 == 2;
+                    metrics.recordAiCall(endpoint, ok ? "success" : "error", latency);
+
+                    if (e != null || r.statusCode() / 100 == 5) {
+                        limiter.onFailure();
+                        breaker.onFailure();
+                    } else {
+                        limiter.onSuccess(latency);
+                        breaker.onSuccess();
+                    }
+
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        throw new AiServiceException("AI service call failed: " + cause.getMessage(), cause);
+                    }
+                    if (r.statusCode() / 100 != 2) {
+                        throw new AiServiceException("AI service returned HTTP " + r.statusCode()
+                                + " for " + request.uri().getPath());
+                    }
+                    try {
+                        return objectMapper.readValue(r.body(), type);
+                    } catch (IOException ex) {
+                        throw new AiServiceException("Cannot parse AI service response", ex);
+                    }
+                });
+    }
+
+    private HttpRequest queryRequest(String subject) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/query?query=" + URLEncoder.encode(subject, StandardCharsets.UTF_8)))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    // only cache usable answers; empty responses should be retried next time
+    private void cacheIfUsable(String key, AiSearchResponse response) {
+        if (response != null && response.getTeams() != null && !response.getTeams().isEmpty()) {
+            cache.put(key, response);
+        }
+    }
 
-        return restTemplate.getForObject(url, AiSearchResponse.class);
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new AiServiceException("AI service call failed", e.getCause());
+        }
     }
 }
@@ -0,0 +1,9 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+// Call not attempted: no concurrency permit freed up in time. Back-pressure, not a service failure.
+public class AiServiceBusyException extends AiServiceUnavailableException {
+
+    public AiServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+// The AI routing service could not produce an answer (HTTP error, timeout, bad payload)
+public class AiServiceException extends RuntimeException {
+
+    public AiServiceException(String message) {
+        super(message);
+    }
+
+    public AiServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+// Call not attempted: breaker open or no concurrency permit (AiServiceBusyException). Retry later.
+public class AiServiceUnavailableException extends AiServiceException {
+
+    public AiServiceUnavailableException(String message) {
+        super(message);
+    }
+}
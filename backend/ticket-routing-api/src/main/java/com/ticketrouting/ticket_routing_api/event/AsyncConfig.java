@@ -1,24 +1,62 @@
 package com.ticketrouting.ticket_routing_api.event;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    // ai.routing.executor=platform (bounded thread pool) | virtual (virtual threads + semaphore)
     @Bean(name = "aiExecutor")
-    public Executor aiExecutor() {
+    public Executor aiExecutor(
+            @Value("${ai.routing.executor:platform}") String mode,
+            @Value("${ai.routing.executor.max-in-flight:64}") int maxInFlight,
+            RoutingMetrics metrics
+    ) {
+        TaskDecorator timeQueueWait = task -> {
+            long enqueued = System.nanoTime();
+            return () -> {
+                metrics.recordQueueWait(System.nanoTime() - enqueued);
+                task.run();
+            };
+        };
+
+        if ("virtual".equalsIgnoreCase(mode)) {
+            BoundedVirtualThreadExecutor exec = new BoundedVirtualThreadExecutor("ai-route-v-", maxInFlight);
+            exec.setTaskDecorator(timeQueueWait);
+            metrics.gauge("routing.executor.queue.depth", "Submitters waiting for a routing slot",
+                    exec, BoundedVirtualThreadExecutor::getWaiting);
+            metrics.gauge("routing.executor.active", "Routing tasks running",
+                    exec, BoundedVirtualThreadExecutor::getInFlight);
+            return exec;
+        }
+
         ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
         exec.setCorePoolSize(4);
         exec.setMaxPoolSize(8);
         exec.setQueueCapacity(200);
         exec.setThreadNamePrefix("ai-route-");
+        exec.setTaskDecorator(timeQueueWait);
+        // a full queue slows the submitter down instead of dropping the ticket's routing
+        ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+        exec.setRejectedExecutionHandler((task, pool) -> {
+            metrics.executorRejected();
+            callerRuns.rejectedExecution(task, pool);
+        });
         exec.initialize();
+
+        metrics.gauge("routing.executor.queue.depth", "Tasks queued in aiExecutor",
+                exec, e -> e.getThreadPoolExecutor().getQueue().size());
+        metrics.gauge("routing.executor.active", "aiExecutor threads running a task",
+                exec, ThreadPoolTaskExecutor::getActiveCount);
         return exec;
     }
 }
@@ -0,0 +1,74 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+// One virtual thread per task, at most maxInFlight tasks at once.
+// When full, execute() blocks the submitter instead of rejecting: nothing is dropped.
+public class BoundedVirtualThreadExecutor implements Executor, DisposableBean {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private volatile TaskDecorator taskDecorator;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxInFlight) {
+        this.delegate = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.permits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+    }
+
+    // Same hook as ThreadPoolTaskExecutor; applied before waiting for a permit
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        TaskDecorator decorator = taskDecorator;
+        Runnable task = decorator != null ? decorator.decorate(command) : command;
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for a routing slot", e);
+        }
+
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.shutdown();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+// CLOSED -> OPEN after failureThreshold consecutive failures.
+// OPEN fails fast for openMillis, then HALF_OPEN lets halfOpenTrials probes through:
+// all of them succeeding closes the breaker, any failure re-opens it.
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final int halfOpenTrials;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    private long opened;
+    private long rejected;
+
+    public CircuitBreaker(int failureThreshold, long openMillis, int halfOpenTrials) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.halfOpenTrials = halfOpenTrials;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.currentTimeMillis() >= openUntil) {
+            state = State.HALF_OPEN;
+            trialsStarted = 0;
+            trialsSucceeded = 0;
+        }
+
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialsStarted < halfOpenTrials) {
+                    trialsStarted++;
+                    return true;
+                }
+                rejected++;
+                return false;
+            default:
+                rejected++;
+                return false;
+        }
+    }
+
+    // Non-mutating check used by pollers to defer work while the breaker is open
+    public synchronized boolean isCallPermitted() {
+        return state != State.OPEN || System.currentTimeMillis() >= openUntil;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN && ++trialsSucceeded >= halfOpenTrials) {
+            state = State.CLOSED;
+        }
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            trip();
+        }
+    }
+
+    // A permit was taken but no call was made
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && trialsStarted > 0) {
+            trialsStarted--;
+        }
+    }
+
+    private void trip() {
+        if (state != State.OPEN) {
+            opened++;
+        }
+        state = State.OPEN;
+        openUntil = System.currentTimeMillis() + openMillis;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized State getState() { return state; }
+    public synchronized long getOpened() { return opened; }
+    public synchronized long getRejected() { return rejected; }
+}
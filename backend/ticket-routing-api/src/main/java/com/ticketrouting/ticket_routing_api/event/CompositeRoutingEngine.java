@@ -0,0 +1,146 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.dto.LocalRoutingStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Chooses between the primary engine and the in-JVM model.
+// Primary is the remote AI service, or the in-process vector index with ai.routing.engine=vector
+// (the remote service is still used until the index has loaded).
+//   off        - remote only (default): during an outage the outbox keeps retrying the real service
+//   fallback   - remote; local answers when the remote call fails or the breaker refuses it
+//                (not when it only timed out waiting for a concurrency permit: that is load, retried later).
+//                The local answer is final: the outbox row is done and never re-asked remotely
+//   first-pass - local when it is confident enough, remote (with fallback) otherwise
+@Primary
+@Component
+public class CompositeRoutingEngine implements RoutingEngine {
+
+    private final AiRoutingClient remote;
+    private final VectorRoutingEngine vector;
+    private final LocalRoutingEngine local;
+    private final boolean useVector;
+    private final String mode;
+    private final double minLocalConfidence;
+
+    private final AtomicLong remoteServed = new AtomicLong();
+    private final AtomicLong localFirstPass = new AtomicLong();
+    private final AtomicLong localFallback = new AtomicLong();
+
+    public CompositeRoutingEngine(
+            AiRoutingClient remote,
+            VectorRoutingEngine vector,
+            LocalRoutingEngine local,
+            @Value("${ai.routing.engine:remote}") String engine,
+            @Value("${ai.routing.local-model.mode:off}") String mode,
+            @Value("${ai.routing.local-model.min-confidence:90}") double minLocalConfidence
+    ) {
+        this.remote = remote;
+        this.vector = vector;
+        this.local = local;
+        this.useVector = "vector".equalsIgnoreCase(engine.trim());
+        this.mode = mode.trim().toLowerCase(Locale.ROOT);
+        this.minLocalConfidence = minLocalConfidence;
+    }
+
+    @Override
+    public CompletableFuture<AiSearchResponse> routeAsync(String subject) {
+        if ("first-pass".equals(mode) && local.isReady()) {
+            List<AiTeamConfidence> guess = local.predict(subject);
+            if (isConfident(guess)) {
+                localFirstPass.incrementAndGet();
+                return CompletableFuture.completedFuture(LocalRoutingEngine.toResponse(guess));
+            }
+        }
+        return primary().routeAsync(subject).handle((response, e) -> {
+            if (e == null) {
+                remoteServed.incrementAndGet();
+                return response;
+            }
+            return fallback(e, List.of(subject)).get(0);
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<AiSearchResponse>> routeBatchAsync(List<String> subjects) {
+        if (!"first-pass".equals(mode) || !local.isReady()) {
+            return withFallback(primary().routeBatchAsync(subjects), subjects);
+        }
+
+        // answer confident ones locally, send only the rest
+        AiSearchResponse[] out = new AiSearchResponse[subjects.size()];
+        List<Integer> remoteIdx = new ArrayList<>();
+        for (int i = 0; i < subjects.size(); i++) {
+            List<AiTeamConfidence> guess = local.predict(subjects.get(i));
+            if (isConfident(guess)) {
+                localFirstPass.incrementAndGet();
+                out[i] = LocalRoutingEngine.toResponse(guess);
+            } else {
+                remoteIdx.add(i);
+            }
+        }
+        if (remoteIdx.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(out));
+        }
+
+        List<String> remoteSubjects = remoteIdx.stream().map(subjects::get).toList();
+        return withFallback(primary().routeBatchAsync(remoteSubjects), remoteSubjects)
+                .thenApply(responses -> {
+                    for (int j = 0; j < remoteIdx.size(); j++) {
+                        out[remoteIdx.get(j)] = responses.get(j);
+                    }
+                    return Arrays.asList(out);
+                });
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return primary().isAvailable() || (!"off".equals(mode) && local.isReady());
+    }
+
+    private RoutingEngine primary() {
+        return useVector && vector.isReady() ? vector : remote;
+    }
+
+    private CompletableFuture<List<AiSearchResponse>> withFallback(
+            CompletableFuture<List<AiSearchResponse>> call, List<String> subjects) {
+        return call.handle((responses, e) -> {
+            if (e == null) {
+                remoteServed.addAndGet(subjects.size());
+                return responses;
+            }
+            return fallback(e, subjects);
+        });
+    }
+
+    // Local answers for a failed remote call, or the original failure when there is no local model
+    private List<AiSearchResponse> fallback(Throwable e, List<String> subjects) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if ("off".equals(mode) || !local.isReady() || cause instanceof AiServiceBusyException) {
+            throw e instanceof CompletionException ce ? ce : new CompletionException(e);
+        }
+        localFallback.addAndGet(subjects.size());
+        return subjects.stream().map(s -> LocalRoutingEngine.toResponse(local.predict(s))).toList();
+    }
+
+    private boolean isConfident(List<AiTeamConfidence> guess) {
+        return !guess.isEmpty() && guess.get(0).getConfidence() >= minLocalConfidence;
+    }
+
+    public LocalRoutingStats stats() {
+        return new LocalRoutingStats(
+                mode, local.isReady(), local.getTrainingDocs(), local.getTeamCount(),
+                remoteServed.get(), localFirstPass.get(), localFallback.get()
+        );
+    }
+}
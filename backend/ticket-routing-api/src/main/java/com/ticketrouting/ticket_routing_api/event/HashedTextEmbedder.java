@@ -0,0 +1,38 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+// Dense, L2-normalized text vector from hashed n-gram counts (sublinear tf).
+// Chunk vectors and query vectors must come from the same embedder/dimension.
+public class HashedTextEmbedder {
+
+    private final TextFeatureHasher hasher;
+
+    public HashedTextEmbedder(int dim) {
+        this.hasher = new TextFeatureHasher(dim);
+    }
+
+    public int dim() {
+        return hasher.buckets();
+    }
+
+    public float[] embed(String text) {
+        float[] v = new float[hasher.buckets()];
+        for (int f : hasher.features(text)) {
+            v[f] += 1f;
+        }
+
+        double norm = 0;
+        for (int i = 0; i < v.length; i++) {
+            if (v[i] > 0) {
+                v[i] = (float) (1.0 + Math.log(v[i]));
+                norm += v[i] * v[i];
+            }
+        }
+        if (norm > 0) {
+            float inv = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < v.length; i++) {
+                v[i] *= inv;
+            }
+        }
+        return v;
+    }
+}
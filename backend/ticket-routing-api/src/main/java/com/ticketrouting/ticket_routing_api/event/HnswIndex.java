@@ -0,0 +1,271 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+
+// Hierarchical navigable small-world graph over L2-normalized vectors (cosine similarity).
+// Built once, read-only afterwards, so concurrent search() calls need no locking.
+// Vectors are read in place (absolute gets only) from the buffer it is given, e.g. a file mapping.
+public final class HnswIndex {
+
+    public record Hit(int id, float similarity) {}
+
+    private record Candidate(int id, float distance) {}
+
+    // Visited marks for one search, reset by bumping the stamp instead of clearing
+    private static final class Visited {
+        private final int[] marks;
+        private int stamp;
+
+        private Visited(int count) {
+            this.marks = new int[count];
+        }
+
+        private int nextStamp() {
+            if (++stamp == 0) {
+                Arrays.fill(marks, 0);
+                stamp = 1;
+            }
+            return stamp;
+        }
+    }
+
+    private static final Comparator<Candidate> NEAREST_FIRST = Comparator.comparingDouble(Candidate::distance);
+    private static final Comparator<Candidate> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+    private final FloatBuffer vectors;
+    private final int dim;
+    private final int count;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMult;
+
+    private final int[][][] links;      // links[node][level] -> neighbour ids
+    private final int[][] linkCounts;   // linkCounts[node][level]
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    // Borrowed per search and handed back, not per-thread: requests run on virtual threads, so a
+    // ThreadLocal would allocate an O(count) array for every query. Searches are CPU-bound, so about
+    // one set per core is kept; extra sets made under a burst are dropped when the pool is full.
+    private final ArrayBlockingQueue<Visited> visitedPool =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private HnswIndex(FloatBuffer vectors, int dim, int m, int efConstruction) {
+        this.vectors = vectors;
+        this.dim = dim;
+        this.count = vectors.limit() / dim;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMult = 1.0 / Math.log(m);
+        this.links = new int[count][][];
+        this.linkCounts = new int[count][];
+    }
+
+    public static HnswIndex build(FloatBuffer vectors, int dim, int m, int efConstruction, long seed) {
+        HnswIndex index = new HnswIndex(vectors, dim, m, efConstruction);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < index.count; i++) {
+            index.insert(i, random);
+        }
+        return index;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public List<Hit> search(float[] query, int k, int ef) {
+        if (count == 0) return List.of();
+
+        int ep = entryPoint;
+        for (int level = maxLevel; level > 0; level--) {
+            ep = greedyClosest(query, ep, level);
+        }
+        List<Candidate> nearest = searchLayer(query, ep, Math.max(ef, k), 0);
+        return toHits(nearest, k);
+    }
+
+    // Exact top-k by full scan; the baseline search() is measured against
+    public List<Hit> bruteForce(float[] query, int k) {
+        PriorityQueue<Candidate> top = new PriorityQueue<>(FARTHEST_FIRST);
+        for (int i = 0; i < count; i++) {
+            float d = distance(query, i);
+            if (top.size() < k) {
+                top.add(new Candidate(i, d));
+            } else if (d < top.peek().distance()) {
+                top.poll();
+                top.add(new Candidate(i, d));
+            }
+        }
+        List<Candidate> sorted = new ArrayList<>(top);
+        sorted.sort(NEAREST_FIRST);
+        return toHits(sorted, k);
+    }
+
+    public float[] vector(int id) {
+        float[] out = new float[dim];
+        vectors.get(id * dim, out);
+        return out;
+    }
+
+    // ===================== BUILD =====================
+
+    private void insert(int node, SplittableRandom random) {
+        int level = (int) (-Math.log(1.0 - random.nextDouble()) * levelMult);
+        links[node] = new int[level + 1][];
+        linkCounts[node] = new int[level + 1];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[maxConnections(l) + 1];
+        }
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        float[] q = vector(node);
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            ep = greedyClosest(q, ep, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(q, ep, efConstruction, l);
+            int take = Math.min(m, candidates.size());
+            for (int i = 0; i < take; i++) {
+                int neighbour = candidates.get(i).id();
+                addLink(node, neighbour, l);
+                addLink(neighbour, node, l);
+            }
+            ep = candidates.get(0).id();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    private void addLink(int from, int to, int level) {
+        int[] list = links[from][level];
+        int n = linkCounts[from][level];
+        list[n++] = to;
+
+        int max = maxConnections(level);
+        if (n > max) {
+            // over capacity: keep the closest max neighbours
+            float[] base = vector(from);
+            Candidate[] all = new Candidate[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = new Candidate(list[i], distance(base, list[i]));
+            }
+            Arrays.sort(all, NEAREST_FIRST);
+            for (int i = 0; i < max; i++) {
+                list[i] = all[i].id();
+            }
+            n = max;
+        }
+        linkCounts[from][level] = n;
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    // ===================== SEARCH =====================
+
+    private int greedyClosest(float[] q, int ep, int level) {
+        int best = ep;
+        float bestDist = distance(q, ep);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] list = links[best][level];
+            int n = linkCounts[best][level];
+            for (int i = 0; i < n; i++) {
+                float d = distance(q, list[i]);
+                if (d < bestDist) {
+                    bestDist = d;
+                    best = list[i];
+                    improved = true;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Returns up to ef candidates, nearest first
+    private List<Candidate> searchLayer(float[] q, int ep, int ef, int level) {
+        Visited visited = visitedPool.poll();
+        if (visited == null) visited = new Visited(count);
+        try {
+            return searchLayer(q, ep, ef, level, visited.marks, visited.nextStamp());
+        } finally {
+            visitedPool.offer(visited);
+        }
+    }
+
+    private List<Candidate> searchLayer(float[] q, int ep, int ef, int level, int[] marks, int mark) {
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(NEAREST_FIRST);
+        PriorityQueue<Candidate> result = new PriorityQueue<>(FARTHEST_FIRST);
+
+        Candidate start = new Candidate(ep, distance(q, ep));
+        marks[ep] = mark;
+        frontier.add(start);
+        result.add(start);
+
+        while (!frontier.isEmpty()) {
+            Candidate c = frontier.poll();
+            if (c.distance() > result.peek().distance() && result.size() >= ef) break;
+
+            int[] list = links[c.id()][level];
+            int n = linkCounts[c.id()][level];
+            for (int i = 0; i < n; i++) {
+                int next = list[i];
+                if (marks[next] == mark) continue;
+                marks[next] = mark;
+
+                float d = distance(q, next);
+                if (result.size() < ef || d < result.peek().distance()) {
+                    Candidate cand = new Candidate(next, d);
+                    frontier.add(cand);
+                    result.add(cand);
+                    if (result.size() > ef) result.poll();
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(result);
+        sorted.sort(NEAREST_FIRST);
+        return sorted;
+    }
+
+    private float distance(float[] q, int id) {
+        int offset = id * dim;
+        float dot = 0f;
+        for (int i = 0; i < dim; i++) {
+            dot += q[i] * vectors.get(offset + i);
+        }
+        return 1f - dot;
+    }
+
+    private static List<Hit> toHits(List<Candidate> candidates, int k) {
+        int n = Math.min(k, candidates.size());
+        List<Hit> hits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Candidate c = candidates.get(i);
+            hits.add(new Hit(c.id(), 1f - c.distance()));
+        }
+        return hits;
+    }
+}
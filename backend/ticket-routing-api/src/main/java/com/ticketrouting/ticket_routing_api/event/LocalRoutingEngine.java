@@ -0,0 +1,94 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.repository.LabeledSubjectRow;
+import com.ticketrouting.ticket_routing_api.repository.TicketActivityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// In-JVM router: naive Bayes trained at startup from the teams humans chose in ticket_activity,
+// then incrementally from every committed human reassignment. AI auto-assignments are never
+// used as labels, so the model does not learn from its own (or the remote model's) answers.
+// Its answers are suggestions only: confidence is capped below the auto-assign cutoff.
+@Component
+public class LocalRoutingEngine implements RoutingEngine {
+
+    private static final int BOOTSTRAP_PAGE_SIZE = 5000;
+    static final int FEATURE_BUCKETS = 1 << 18;
+    static final double MAX_CONFIDENCE = RoutingDecision.AUTO_ASSIGN_CONFIDENCE - 1;
+
+    private final TicketActivityRepository activityRepo;
+    private final NaiveBayesRoutingModel model = new NaiveBayesRoutingModel(new TextFeatureHasher(FEATURE_BUCKETS));
+    private final long minTrainingDocs;
+
+    public LocalRoutingEngine(
+            TicketActivityRepository activityRepo,
+            @Value("${ai.routing.local-model.min-training:20}") long minTrainingDocs
+    ) {
+        this.activityRepo = activityRepo;
+        this.minTrainingDocs = minTrainingDocs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long afterId = 0L;
+        List<LabeledSubjectRow> rows;
+        do {
+            rows = activityRepo.findLabeledRowsAfter(afterId, PageRequest.of(0, BOOTSTRAP_PAGE_SIZE));
+            for (LabeledSubjectRow row : rows) {
+                model.learn(row.getSubject(), row.getTeamName());
+                afterId = row.getId();
+            }
+        } while (rows.size() == BOOTSTRAP_PAGE_SIZE);
+
+        System.out.println(">>> [LOCAL-ROUTER] Trained on " + model.getTrainingDocs()
+                + " human-labeled tickets across " + model.getTeamCount() + " teams");
+    }
+
+    public void learn(String subject, String team) {
+        model.learn(subject, team);
+    }
+
+    public boolean isReady() {
+        return model.getTrainingDocs() >= minTrainingDocs && model.getTeamCount() > 1;
+    }
+
+    public List<AiTeamConfidence> predict(String subject) {
+        return model.predict(subject);
+    }
+
+    @Override
+    public CompletableFuture<AiSearchResponse> routeAsync(String subject) {
+        return CompletableFuture.completedFuture(toResponse(predict(subject)));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return isReady();
+    }
+
+    public long getTrainingDocs() {
+        return model.getTrainingDocs();
+    }
+
+    public int getTeamCount() {
+        return model.getTeamCount();
+    }
+
+    static AiSearchResponse toResponse(List<AiTeamConfidence> teams) {
+        for (AiTeamConfidence t : teams) {
+            t.setConfidence(Math.min(t.getConfidence(), MAX_CONFIDENCE));
+        }
+        AiSearchResponse response = new AiSearchResponse();
+        response.setAutoAssign(false);
+        response.setTeams(teams);
+        response.setResults(List.of());
+        return response;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Multinomial naive Bayes over hashed n-gram features, trained one example at a time
+public class NaiveBayesRoutingModel {
+
+    private final TextFeatureHasher hasher;
+
+    // lower-cased team name -> per-team counts
+    private final Map<String, TeamCounts> teams = new LinkedHashMap<>();
+    private long totalDocs;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NaiveBayesRoutingModel(TextFeatureHasher hasher) {
+        this.hasher = hasher;
+    }
+
+    public void learn(String subject, String team) {
+        if (subject == null || team == null || team.isBlank()) return;
+        int[] features = hasher.features(subject);
+
+        lock.writeLock().lock();
+        try {
+            TeamCounts counts = teams.computeIfAbsent(
+                    team.trim().toLowerCase(Locale.ROOT),
+                    k -> new TeamCounts(team.trim(), hasher.buckets()));
+            counts.docs++;
+            counts.tokens += features.length;
+            for (int f : features) {
+                counts.featureCounts[f]++;
+            }
+            totalDocs++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Teams by descending confidence (0–100, softmax over tempered log-posteriors).
+    // Raw naive Bayes multiplies one likelihood per feature as if they were independent, which
+    // pushes the winner to ~100 on any subject. Averaging the feature log-likelihoods instead
+    // (a temperature of one per feature) keeps the ranking and gives usable confidences.
+    public List<AiTeamConfidence> predict(String subject) {
+        int[] features = hasher.features(subject);
+
+        lock.readLock().lock();
+        try {
+            if (teams.isEmpty()) return List.of();
+
+            List<String> names = new ArrayList<>(teams.size());
+            double[] logPost = new double[teams.size()];
+            double vocab = hasher.buckets();
+            int i = 0;
+            for (TeamCounts c : teams.values()) {
+                double denom = Math.log(c.tokens + vocab);
+                double ll = 0;
+                for (int f : features) {
+                    ll += Math.log(c.featureCounts[f] + 1.0) - denom;
+                }
+                names.add(c.displayName);
+                logPost[i++] = Math.log((double) c.docs / totalDocs) + ll / Math.max(1, features.length);
+            }
+
+            double max = Double.NEGATIVE_INFINITY;
+            for (double lp : logPost) max = Math.max(max, lp);
+            double sum = 0;
+            for (int k = 0; k < logPost.length; k++) {
+                logPost[k] = Math.exp(logPost[k] - max);
+                sum += logPost[k];
+            }
+
+            List<AiTeamConfidence> out = new ArrayList<>(names.size());
+            for (int k = 0; k < names.size(); k++) {
+                out.add(new AiTeamConfidence(names.get(k), logPost[k] / sum * 100.0, null));
+            }
+            out.sort(Comparator.comparing(AiTeamConfidence::getConfidence).reversed());
+            for (int k = 0; k < out.size(); k++) {
+                out.get(k).setRankOrder(k + 1);
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getTrainingDocs() {
+        lock.readLock().lock();
+        try {
+            return totalDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTeamCount() {
+        lock.readLock().lock();
+        try {
+            return teams.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class TeamCounts {
+        final String displayName;
+        final int[] featureCounts;
+        long docs;
+        long tokens;
+
+        TeamCounts(String displayName, int buckets) {
+            this.displayName = displayName;
+            this.featureCounts = new int[buckets];
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+
+import java.util.List;
+
+// What one AI answer means for a ticket, before anything touches the database
+public record RoutingDecision(
+        String topTeam,
+        double topConfidence,
+        boolean autoAssign,
+        String suggestedMessage,
+        List<AiTeamConfidence> storedTeams
+) {
+
+    // top confidence (0-100) needed to assign without a human
+    public static final double AUTO_ASSIGN_CONFIDENCE = 80;
+    // confidence rows kept per ticket
+    public static final int STORED_TEAMS = 3;
+
+    // null when the answer has no teams
+    public static RoutingDecision of(AiSearchResponse response) {
+        if (response == null || response.getTeams() == null || response.getTeams().isEmpty()) {
+            return null;
+        }
+        List<AiTeamConfidence> teams = response.getTeams();
+        AiTeamConfidence top = teams.get(0);
+        double confidence = top.getConfidence();
+
+        // Best supporting chunk (optional but useful)
+        String message = null;
+        List<AiSearchResult> results = response.getResults();
+        if (results != null && !results.isEmpty()) {
+            message = results.get(0).getAiSuggestedMessage();
+        }
+
+        return new RoutingDecision(
+                top.getTeam(), confidence, confidence >= AUTO_ASSIGN_CONFIDENCE, message,
+                teams.subList(0, Math.min(STORED_TEAMS, teams.size()))
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Something that can turn a ticket subject into ranked team confidences
+public interface RoutingEngine {
+
+    CompletableFuture<AiSearchResponse> routeAsync(String subject);
+
+    // One response per subject, same order
+    default CompletableFuture<List<AiSearchResponse>> routeBatchAsync(List<String> subjects) {
+        List<CompletableFuture<AiSearchResponse>> futures = subjects.stream().map(this::routeAsync).toList();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    // false when calls would currently be refused; pollers use it to defer work
+    default boolean isAvailable() {
+        return true;
+    }
+}
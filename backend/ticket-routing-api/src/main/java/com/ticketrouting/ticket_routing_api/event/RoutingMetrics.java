@@ -0,0 +1,106 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+// Meters for each stage of the routing pipeline, scraped at /actuator/prometheus.
+// Timers publish histogram buckets so p50/p95/p99 can be aggregated across instances.
+@Component
+public class RoutingMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Timer createToPublish;
+    private final Timer executorQueueWait;
+    private final Timer persistence;
+    private final Timer endToEnd;
+
+    private final Counter executorRejected;
+    private final Counter emptyResponses;
+    private final Counter autoAssigned;
+    private final Counter belowThreshold;
+    private final Counter unknownTeam;
+    private final Counter manualKept;
+    private final Counter missingDetail;
+
+    public RoutingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        this.createToPublish = timer("routing.create.publish",
+                "Ticket create call until the routing event is published");
+        this.executorQueueWait = timer("routing.executor.queue.wait",
+                "Time a task waits in aiExecutor before it starts");
+        this.persistence = timer("routing.outcome.persist",
+                "Writing one routing outcome (confidences, detail, assignment)");
+        this.endToEnd = timer("routing.end.to.end",
+                "Outbox row creation until its routing outcome is stored");
+
+        this.executorRejected = Counter.builder("routing.executor.rejected")
+                .description("Tasks the aiExecutor could not queue (run on the caller instead)")
+                .register(registry);
+        this.emptyResponses = Counter.builder("routing.ai.empty.responses")
+                .description("AI answers without any team")
+                .register(registry);
+        this.autoAssigned = decision("auto_assigned");
+        this.belowThreshold = decision("below_threshold");
+        this.unknownTeam = decision("unknown_team");
+        this.manualKept = decision("manual_kept");
+        this.missingDetail = Counter.builder("routing.detail.missing")
+                .description("Routing outcomes for tickets without a TicketDetail row")
+                .register(registry);
+    }
+
+    private Timer timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(registry);
+    }
+
+    private Counter decision(String decision) {
+        return Counter.builder("routing.outcome.decisions")
+                .description("Auto-assignment decisions against the confidence cutoff")
+                .tag("decision", decision)
+                .register(registry);
+    }
+
+    // AI HTTP call latency, tagged by endpoint and outcome (success, error, rejected)
+    public void recordAiCall(String endpoint, String outcome, long nanos) {
+        Timer.builder("routing.ai.call")
+                .description("Calls to the Python routing service")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> void gauge(String name, String description, T obj, ToDoubleFunction<T> value) {
+        Gauge.builder(name, obj, value).description(description).register(registry);
+    }
+
+    public void recordCreateToPublish(long nanos) { createToPublish.record(nanos, TimeUnit.NANOSECONDS); }
+    public void recordQueueWait(long nanos) { executorQueueWait.record(nanos, TimeUnit.NANOSECONDS); }
+    public void recordPersistence(long nanos) { persistence.record(nanos, TimeUnit.NANOSECONDS); }
+    public void recordEndToEnd(Duration d) { endToEnd.record(d); }
+
+    public void executorRejected() { executorRejected.increment(); }
+    public long executorRejectedCount() { return (long) executorRejected.count(); }
+    public void emptyResponse() { emptyResponses.increment(); }
+    public void autoAssigned() { autoAssigned.increment(); }
+    public void belowThreshold() { belowThreshold.increment(); }
+    public void unknownTeam() { unknownTeam.increment(); }
+    public void manualKept() { manualKept.increment(); }
+    public void missingDetail() { missingDetail.increment(); }
+}
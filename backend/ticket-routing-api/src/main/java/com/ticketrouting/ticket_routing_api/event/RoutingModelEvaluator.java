@@ -0,0 +1,120 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.dto.RoutingEvaluationReport;
+import com.ticketrouting.ticket_routing_api.repository.LabeledSubjectRow;
+import com.ticketrouting.ticket_routing_api.repository.TicketActivityRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Offline evaluation: trains a fresh model on all human-labeled tickets except every k-th one,
+// then scores the held-out tickets with the local model and (optionally) the Python service.
+// Remote calls skip the response cache and the concurrency limiter, so the figures are the service's own.
+@Service
+public class RoutingModelEvaluator {
+
+    private static final int PAGE_SIZE = 5000;
+
+    private final TicketActivityRepository activityRepo;
+    private final AiRoutingClient remote;
+
+    public RoutingModelEvaluator(TicketActivityRepository activityRepo, AiRoutingClient remote) {
+        this.activityRepo = activityRepo;
+        this.remote = remote;
+    }
+
+    public RoutingEvaluationReport evaluate(int holdoutEvery, int remoteSamples) {
+        List<LabeledSubjectRow> rows = loadLabeledRows();
+
+        NaiveBayesRoutingModel model = new NaiveBayesRoutingModel(
+                new TextFeatureHasher(LocalRoutingEngine.FEATURE_BUCKETS));
+        List<LabeledSubjectRow> holdout = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            LabeledSubjectRow row = rows.get(i);
+            if (i % holdoutEvery == 0) {
+                holdout.add(row);
+            } else {
+                model.learn(row.getSubject(), row.getTeamName());
+            }
+        }
+
+        RoutingEvaluationReport report = new RoutingEvaluationReport();
+        report.setTrainingSize(rows.size() - holdout.size());
+        report.setHoldoutSize(holdout.size());
+
+        // ---- local model ----
+        long[] localNanos = new long[holdout.size()];
+        int localCorrect = 0;
+        for (int i = 0; i < holdout.size(); i++) {
+            LabeledSubjectRow row = holdout.get(i);
+            long start = System.nanoTime();
+            List<AiTeamConfidence> guess = model.predict(row.getSubject());
+            localNanos[i] = System.nanoTime() - start;
+            if (isCorrect(guess, row.getTeamName())) localCorrect++;
+        }
+        report.setLocalAccuracy(ratio(localCorrect, holdout.size()));
+        report.setLocalMeanMicros(mean(localNanos) / 1_000.0);
+        report.setLocalP99Micros(p99(localNanos) / 1_000.0);
+
+        // ---- Python service on the same held-out tickets ----
+        int remoteCount = Math.min(remoteSamples, holdout.size());
+        long[] remoteNanos = new long[remoteCount];
+        int remoteCorrect = 0;
+        int remoteErrors = 0;
+        for (int i = 0; i < remoteCount; i++) {
+            LabeledSubjectRow row = holdout.get(i);
+            long start = System.nanoTime();
+            try {
+                AiSearchResponse response = remote.searchDirect(row.getSubject());
+                if (response != null && isCorrect(response.getTeams(), row.getTeamName())) remoteCorrect++;
+            } catch (RuntimeException e) {
+                remoteErrors++;
+            }
+            remoteNanos[i] = System.nanoTime() - start;
+        }
+        report.setRemoteSamples(remoteCount);
+        report.setRemoteErrors(remoteErrors);
+        report.setRemoteAccuracy(ratio(remoteCorrect, remoteCount));
+        report.setRemoteMeanMillis(mean(remoteNanos) / 1_000_000.0);
+        report.setRemoteP99Millis(p99(remoteNanos) / 1_000_000.0);
+
+        return report;
+    }
+
+    private List<LabeledSubjectRow> loadLabeledRows() {
+        List<LabeledSubjectRow> all = new ArrayList<>();
+        long afterId = 0L;
+        List<LabeledSubjectRow> rows;
+        do {
+            rows = activityRepo.findLabeledRowsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+            all.addAll(rows);
+            if (!rows.isEmpty()) afterId = rows.get(rows.size() - 1).getId();
+        } while (rows.size() == PAGE_SIZE);
+        return all;
+    }
+
+    private static boolean isCorrect(List<AiTeamConfidence> teams, String label) {
+        return teams != null && !teams.isEmpty()
+                && teams.get(0).getTeam() != null
+                && teams.get(0).getTeam().trim().equalsIgnoreCase(label.trim());
+    }
+
+    private static double ratio(int n, int d) {
+        return d == 0 ? 0.0 : (double) n / d;
+    }
+
+    private static double mean(long[] values) {
+        return values.length == 0 ? 0.0 : Arrays.stream(values).average().orElse(0.0);
+    }
+
+    private static double p99(long[] values) {
+        if (values.length == 0) return 0.0;
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(sorted.length * 0.99) - 1)];
+    }
+}
@@ -0,0 +1,193 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.RoutingOutboxStats;
+import com.ticketrouting.ticket_routing_api.model.RoutingOutbox;
+import com.ticketrouting.ticket_routing_api.service.RoutingOutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Drains routing_outbox: claims due rows in batches, routes them, then marks them
+// DONE or reschedules them with backoff. Polls on a timer and whenever a ticket commits.
+// DONE rows are deleted once they are older than the retention window.
+@Component
+public class RoutingOutboxDispatcher {
+
+    private static final int PURGE_CHUNK = 1000;
+
+    private final RoutingOutboxService outboxService;
+    private final RoutingEngine routingEngine;
+    private final RoutingOutcomeWriter outcomeWriter;
+    private final TicketRoutingBatcher batcher;
+    private final Executor aiExecutor;
+    private final RoutingMetrics metrics;
+
+    private final int batchSize;
+    private final long pollMs;
+    private final int maxInFlight;
+    private final Duration retention;
+    private final long sweepMs;
+
+    // single thread: polls never overlap
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "routing-outbox");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicBoolean pollQueued = new AtomicBoolean();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deferred = new AtomicLong();
+
+    public RoutingOutboxDispatcher(
+            RoutingOutboxService outboxService,
+            RoutingEngine routingEngine,
+            RoutingOutcomeWriter outcomeWriter,
+            TicketRoutingBatcher batcher,
+            @Qualifier("aiExecutor") Executor aiExecutor,
+            RoutingMetrics metrics,
+            @Value("${ai.routing.outbox.batch-size:100}") int batchSize,
+            @Value("${ai.routing.outbox.poll-ms:1000}") long pollMs,
+            @Value("${ai.routing.outbox.max-in-flight:500}") int maxInFlight,
+            @Value("${ai.routing.outbox.retention-hours:24}") long retentionHours,
+            @Value("${ai.routing.outbox.sweep-ms:600000}") long sweepMs
+    ) {
+        this.outboxService = outboxService;
+        this.routingEngine = routingEngine;
+        this.outcomeWriter = outcomeWriter;
+        this.batcher = batcher;
+        this.aiExecutor = aiExecutor;
+        this.metrics = metrics;
+        metrics.gauge("routing.outbox.in.flight", "Outbox rows claimed and not yet finished",
+                inFlight, AtomicInteger::get);
+        this.batchSize = batchSize;
+        this.pollMs = pollMs;
+        this.maxInFlight = maxInFlight;
+        this.retention = Duration.ofHours(retentionHours);
+        this.sweepMs = sweepMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::poll, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sweep, sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    // Called after a ticket commits so new rows do not wait for the next tick.
+    // One queued poll is enough however many commits arrive before it runs.
+    public void wakeUp() {
+        if (pollQueued.compareAndSet(false, true)) {
+            scheduler.execute(this::poll);
+        }
+    }
+
+    private void poll() {
+        pollQueued.set(false);
+        try {
+            // no engine can take more right now: leave rows PENDING instead of burning their attempts
+            while (inFlight.get() < maxInFlight && routingEngine.isAvailable()) {
+                int room = Math.min(batchSize, maxInFlight - inFlight.get());
+                List<RoutingOutbox> rows = outboxService.claimBatch(room);
+                rows.forEach(this::dispatch);
+                if (rows.size() < room) break;
+            }
+        } catch (RuntimeException e) {
+            System.out.println(">>> [AI-OUTBOX] Poll failed: " + e.getMessage());
+        }
+    }
+
+    private void sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        try {
+            int deleted = 0;
+            int chunk;
+            do {
+                chunk = outboxService.purgeDone(before, PURGE_CHUNK);
+                deleted += chunk;
+            } while (chunk == PURGE_CHUNK);
+            if (deleted > 0) {
+                System.out.println(">>> [AI-OUTBOX] Purged " + deleted + " DONE rows");
+            }
+        } catch (RuntimeException e) {
+            System.out.println(">>> [AI-OUTBOX] Purge failed: " + e.getMessage());
+        }
+    }
+
+    private void dispatch(RoutingOutbox row) {
+        inFlight.incrementAndGet();
+        dispatched.incrementAndGet();
+
+        CompletableFuture<Void> done;
+        try {
+            done = route(row);
+        } catch (RuntimeException e) {
+            done = CompletableFuture.failedFuture(e);
+        }
+
+        done.whenComplete((v, e) -> {
+            inFlight.decrementAndGet();
+            try {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (e == null) {
+                    succeeded.incrementAndGet();
+                    outboxService.markDone(row.getId());
+                    metrics.recordEndToEnd(Duration.between(row.getCreatedAt(), LocalDateTime.now()));
+                } else if (cause instanceof AiServiceUnavailableException) {
+                    // never sent (busy or breaker open): back-pressure, not a failed attempt
+                    deferred.incrementAndGet();
+                    outboxService.defer(row);
+                } else {
+                    failed.incrementAndGet();
+                    System.out.println(">>> [AI-OUTBOX] Routing failed for ticketId="
+                            + row.getTicketId() + " (attempt " + row.getAttempts() + "): " + cause.getMessage());
+                    outboxService.markFailed(row, cause.getMessage());
+                }
+            } catch (RuntimeException ex) {
+                // the claim lease expires and the row is picked up again
+                System.out.println(">>> [AI-OUTBOX] Could not update outbox row " + row.getId() + ": " + ex.getMessage());
+            }
+        });
+    }
+
+    private CompletableFuture<Void> route(RoutingOutbox row) {
+        if (batcher.isEnabled()) {
+            return batcher.submit(new TicketCreatedEvent(row.getTicketId(), row.getSubject()));
+        }
+        return routingEngine.routeAsync(row.getSubject())
+                .thenAcceptAsync(response -> {
+                    long start = System.nanoTime();
+                    outcomeWriter.apply(row.getTicketId(), response);
+                    metrics.recordPersistence(System.nanoTime() - start);
+                }, aiExecutor);
+    }
+
+    public RoutingOutboxStats stats() {
+        return new RoutingOutboxStats(
+                outboxService.countPending(), inFlight.get(), batchSize,
+                dispatched.get(), succeeded.get(), failed.get(), deferred.get()
+        );
+    }
+}
@@ -0,0 +1,146 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.model.Team;
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.model.TicketAiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.repository.TicketAiTeamConfidenceRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketDetailRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketRepository;
+import com.ticketrouting.ticket_routing_api.service.TeamDirectory;
+import com.ticketrouting.ticket_routing_api.service.TicketAggregates;
+import com.ticketrouting.ticket_routing_api.service.TicketViewProjector;
+import com.ticketrouting.ticket_routing_api.service.TicketVersions;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Persists one AI routing answer for one ticket: confidences, detail summary, auto-assignment.
+// One transaction, no entity loads: one locking SELECT, two targeted UPDATEs, one DELETE and one batched INSERT.
+// Idempotent, so a re-delivered outbox row just rewrites the same outcome.
+@Component
+public class RoutingOutcomeWriter {
+
+    private final TicketRepository ticketRepository;
+    private final TicketDetailRepository ticketDetailRepository;
+    private final TeamDirectory teamDirectory;
+    private final TicketAiTeamConfidenceRepository ticketAiTeamConfidenceRepository;
+    private final RoutingMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketVersions versions;
+    private final TicketAggregates aggregates;
+    private final TicketViewProjector viewProjector;
+
+    public RoutingOutcomeWriter(
+            TicketRepository ticketRepository,
+            TicketDetailRepository ticketDetailRepository,
+            TeamDirectory teamDirectory,
+            TicketAiTeamConfidenceRepository ticketAiTeamConfidenceRepository,
+            RoutingMetrics metrics,
+            ApplicationEventPublisher eventPublisher,
+            TicketVersions versions,
+            TicketAggregates aggregates,
+            TicketViewProjector viewProjector
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.ticketDetailRepository = ticketDetailRepository;
+        this.teamDirectory = teamDirectory;
+        this.ticketAiTeamConfidenceRepository = ticketAiTeamConfidenceRepository;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.versions = versions;
+        this.aggregates = aggregates;
+        this.viewProjector = viewProjector;
+    }
+
+    @Transactional
+    public void apply(Long ticketId, AiSearchResponse response) {
+        RoutingDecision decision = RoutingDecision.of(response);
+        if (decision == null) {
+            // nothing to write: fail so the outbox row is retried instead of marked DONE
+            metrics.emptyResponse();
+            throw new AiServiceException("Empty AI response for ticketId=" + ticketId);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // =========================
+        // STEP 1 — AUTO ASSIGN (>= 80 ONLY)
+        // =========================
+        Team assignTo = null;
+        if (decision.autoAssign()) {
+            assignTo = teamDirectory.findByName(decision.topTeam()).orElse(null);
+        }
+
+        // also the existence check: empty means the ticket is gone.
+        // Locks the row, so the slot it leaves on the dashboard is exact.
+        TicketAggregates.Slot before = ticketRepository.lockSlot(ticketId)
+                .map(TicketAggregates.Slot::of)
+                .orElse(null);
+        if (before == null) {
+            System.out.println(">>> [AI-LISTENER] Ticket not found, exiting");
+            return;
+        }
+        boolean assignmentWritten = ticketRepository.updateAiAssignedTeam(
+                ticketId, assignTo, now, RoutingDecision.AUTO_ASSIGN_CONFIDENCE) > 0;
+        Long teamId = assignTo == null ? null : assignTo.getId();
+
+        if (!assignmentWritten) {
+            // a human (re)assigned it since the ticket was created: their choice stands
+            teamId = before.teamId();
+            metrics.manualKept();
+            System.out.println(">>> [AI-LISTENER] Assignment changed by a human, keeping it");
+        } else if (assignTo != null) {
+            metrics.autoAssigned();
+            System.out.println(">>> [AI-LISTENER] Auto-assigned to " + assignTo.getName());
+        } else if (!decision.autoAssign()) {
+            metrics.belowThreshold();
+            System.out.println(">>> [AI-LISTENER] Confidence < 80, not auto-assigning");
+        } else {
+            metrics.unknownTeam();
+        }
+
+        // =========================
+        // STEP 2 — SAVE AI SUMMARY ON THE DETAIL
+        // =========================
+        boolean detailStored = ticketDetailRepository.updateAiSummary(
+                ticketId, decision.topTeam(), decision.topConfidence(), decision.suggestedMessage()) > 0;
+        if (!detailStored) {
+            metrics.missingDetail();
+            System.out.println(">>> [AI-LISTENER] TicketDetail not found");
+        }
+
+        // =========================
+        // STEP 3 — REPLACE TOP 3 TEAM CONFIDENCES (ROWS)
+        // =========================
+        ticketAiTeamConfidenceRepository.deleteByTicketId(ticketId);
+
+        Ticket ticketRef = ticketRepository.getReferenceById(ticketId);
+        List<TicketAiTeamConfidence> rows = new ArrayList<>(decision.storedTeams().size());
+        int rank = 1;
+        for (AiTeamConfidence t : decision.storedTeams()) {
+
+            TicketAiTeamConfidence conf = new TicketAiTeamConfidence();
+            conf.setTicket(ticketRef);
+            conf.setTeamName(t.getTeam());
+            conf.setConfidence(t.getConfidence()); // already 0–100 from Python
+            conf.setRankOrder(rank++);
+            rows.add(conf);
+        }
+        ticketAiTeamConfidenceRepository.saveAll(rows);
+
+        // all of these take effect only once this transaction commits
+        versions.changed(ticketId);
+        viewProjector.changed(ticketId);
+        aggregates.moved(before, before
+                .withTeam(teamId)
+                .withRouted(before.routed() || detailStored));
+        String teamName = teamId == null ? null
+                : teamDirectory.findById(teamId).map(Team::getName).orElse(null);
+        eventPublisher.publishEvent(TicketChangedEvent.routed(
+                ticketId, decision, teamName, assignmentWritten && assignTo != null));
+    }
+}
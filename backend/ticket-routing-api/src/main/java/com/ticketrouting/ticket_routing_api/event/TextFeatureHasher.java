@@ -0,0 +1,56 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Hashing trick over lower-cased word unigrams and bigrams: no vocabulary to maintain
+public final class TextFeatureHasher {
+
+    private final int mask;
+
+    // buckets must be a power of two
+    public TextFeatureHasher(int buckets) {
+        if (Integer.bitCount(buckets) != 1) {
+            throw new IllegalArgumentException("buckets must be a power of two: " + buckets);
+        }
+        this.mask = buckets - 1;
+    }
+
+    public int buckets() {
+        return mask + 1;
+    }
+
+    public int[] features(String text) {
+        List<String> tokens = tokenize(text);
+        int[] out = new int[tokens.size() * 2];
+        int n = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            out[n++] = bucket(tokens.get(i).hashCode());
+            if (i + 1 < tokens.size()) {
+                out[n++] = bucket(tokens.get(i).hashCode() * 31 + tokens.get(i + 1).hashCode() + 0x9E3779B9);
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private int bucket(int h) {
+        // murmur3 finalizer so nearby String hashes spread over the table
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        for (String t : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!t.isEmpty()) tokens.add(t);
+        }
+        return tokens;
+    }
+}
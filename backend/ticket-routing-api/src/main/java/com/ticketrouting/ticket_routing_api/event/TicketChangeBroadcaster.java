@@ -0,0 +1,189 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.TicketStreamStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Pushes committed ticket changes to dashboards over SSE.
+// Idle connections hold no thread (servlet async). Each subscriber has a bounded buffer
+// drained by at most one virtual thread at a time, so a slow client only delays itself;
+// on overflow its buffer is dropped and it gets a "resync" event to re-fetch the list.
+@Component
+public class TicketChangeBroadcaster {
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final long heartbeatMs;
+    private final long retryAfterSeconds;
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    // reserved before a subscriber is added, released when it is removed
+    private final AtomicInteger slots = new AtomicInteger();
+    private final AtomicLong nextId = new AtomicLong();
+
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ticket-stream-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private final AtomicLong disconnects = new AtomicLong();
+
+    public TicketChangeBroadcaster(
+            @Value("${tickets.stream.buffer-size:256}") int bufferSize,
+            @Value("${tickets.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${tickets.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${tickets.stream.heartbeat-ms:20000}") long heartbeatMs,
+            @Value("${tickets.stream.retry-after-seconds:10}") long retryAfterSeconds
+    ) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.heartbeatMs = heartbeatMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @PostConstruct
+    public void start() {
+        // keeps proxies from closing idle streams and detects dead clients
+        heartbeat.scheduleWithFixedDelay(() -> subscribers.values().forEach(Subscriber::ping),
+                heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(s -> s.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    public SseEmitter subscribe() {
+        // reserve the slot first: a size() check followed by put() lets concurrent subscribes overshoot
+        int taken;
+        do {
+            taken = slots.get();
+            if (taken >= maxSubscribers) {
+                throw new TicketStreamFullException(maxSubscribers, retryAfterSeconds);
+            }
+        } while (!slots.compareAndSet(taken, taken + 1));
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber s = new Subscriber(nextId.incrementAndGet(), emitter);
+        subscribers.put(s.id, s);
+
+        emitter.onCompletion(() -> remove(s.id));
+        emitter.onTimeout(() -> remove(s.id));
+        emitter.onError(e -> remove(s.id));
+        return emitter;
+    }
+
+    // completion also fires after a timeout or error: only the call that removes frees the slot
+    private void remove(long id) {
+        if (subscribers.remove(id) != null) {
+            slots.decrementAndGet();
+        }
+    }
+
+    // After commit only: clients never see a change that was rolled back.
+    // fallbackExecution covers publishers that run without a transaction.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        published.incrementAndGet();
+        for (Subscriber s : subscribers.values()) {
+            s.offer(event);
+        }
+    }
+
+    public TicketStreamStats stats() {
+        return new TicketStreamStats(subscribers.size(), bufferSize, published.get(), delivered.get(),
+                overflows.get(), disconnects.get());
+    }
+
+    private final class Subscriber {
+
+        private final long id;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<TicketChangedEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean pingDue;
+
+        Subscriber(long id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+        }
+
+        void offer(TicketChangedEvent event) {
+            if (!buffer.offer(event)) {
+                overflowed = true;
+            }
+            schedule();
+        }
+
+        void ping() {
+            pingDue = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (overflowed) {
+                    overflowed = false;
+                    buffer.clear();
+                    overflows.incrementAndGet();
+                    emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                }
+                TicketChangedEvent event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event().name("ticket").data(event, MediaType.APPLICATION_JSON));
+                    delivered.incrementAndGet();
+                }
+                if (pingDue) {
+                    pingDue = false;
+                    emitter.send(SseEmitter.event().comment("ping"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // client went away; the emitter callbacks may not fire for a broken socket
+                disconnects.incrementAndGet();
+                remove(id);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // something arrived between the last poll and releasing the flag
+            if (!buffer.isEmpty() || overflowed || pingDue) {
+                schedule();
+            }
+        }
+    }
+}
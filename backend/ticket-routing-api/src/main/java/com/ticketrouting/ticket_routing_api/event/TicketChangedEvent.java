@@ -0,0 +1,53 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+
+import java.util.List;
+
+// A committed change to one ticket; also the payload pushed to /api/tickets/stream
+public class TicketChangedEvent {
+
+    public enum Kind { ROUTED, REASSIGNED, UPDATED }
+
+    private final Long ticketId;
+    private final Kind kind;
+    private final String assignedTeam;
+    private final String topTeam;
+    private final Double confidence;
+    private final Boolean autoAssigned;
+    private final List<AiTeamConfidence> teams;
+
+    private TicketChangedEvent(Long ticketId, Kind kind, String assignedTeam, String topTeam,
+                               Double confidence, Boolean autoAssigned, List<AiTeamConfidence> teams) {
+        this.ticketId = ticketId;
+        this.kind = kind;
+        this.assignedTeam = assignedTeam;
+        this.topTeam = topTeam;
+        this.confidence = confidence;
+        this.autoAssigned = autoAssigned;
+        this.teams = teams;
+    }
+
+    // assignedTeam is the ticket's team after the outcome, which a human may have chosen
+    public static TicketChangedEvent routed(Long ticketId, RoutingDecision decision, String assignedTeam,
+                                            boolean autoAssigned) {
+        return new TicketChangedEvent(ticketId, Kind.ROUTED, assignedTeam, decision.topTeam(),
+                decision.topConfidence(), autoAssigned, List.copyOf(decision.storedTeams()));
+    }
+
+    public static TicketChangedEvent reassigned(Long ticketId, String assignedTeam) {
+        return new TicketChangedEvent(ticketId, Kind.REASSIGNED, assignedTeam, null, null, null, null);
+    }
+
+    public static TicketChangedEvent updated(Long ticketId, String assignedTeam) {
+        return new TicketChangedEvent(ticketId, Kind.UPDATED, assignedTeam, null, null, null, null);
+    }
+
+    public Long getTicketId() { return ticketId; }
+    public Kind getKind() { return kind; }
+    public String getAssignedTeam() { return assignedTeam; }
+    public String getTopTeam() { return topTeam; }
+    public Double getConfidence() { return confidence; }
+    public Boolean getAutoAssigned() { return autoAssigned; }
+    public List<AiTeamConfidence> getTeams() { return teams; }
+}
@@ -0,0 +1,152 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.ticketrouting.ticket_routing_api.dto.RoutingBatchStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Collects routing requests for up to maxSize tickets or lingerMs, then routes them
+// with a single /query_batch call and fans the answers back out per ticket.
+@Component
+public class TicketRoutingBatcher {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long lingerMs;
+
+    private final RoutingEngine routingEngine;
+    private final RoutingOutcomeWriter outcomeWriter;
+    private final Executor aiExecutor;
+    private final RoutingMetrics metrics;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private Thread flusher;
+    private volatile boolean running;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong items = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    public TicketRoutingBatcher(
+            @Value("${ai.routing.batch.enabled:true}") boolean enabled,
+            @Value("${ai.routing.batch.max-size:16}") int maxSize,
+            @Value("${ai.routing.batch.linger-ms:50}") long lingerMs,
+            RoutingEngine routingEngine,
+            RoutingOutcomeWriter outcomeWriter,
+            @Qualifier("aiExecutor") Executor aiExecutor,
+            RoutingMetrics metrics
+    ) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.lingerMs = lingerMs;
+        this.routingEngine = routingEngine;
+        this.outcomeWriter = outcomeWriter;
+        this.aiExecutor = aiExecutor;
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        flusher = new Thread(this::runLoop, "ai-route-batcher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) flusher.interrupt();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Completes once the ticket's routing outcome is saved, or exceptionally if it was not
+    public CompletableFuture<Void> submit(TicketCreatedEvent event) {
+        Pending pending = new Pending(event, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.done();
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                route(nextBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Blocks for the first event, then lingers until the batch is full or the window closes
+    private List<Pending> nextBatch() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(maxSize);
+        batch.add(queue.take());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        while (batch.size() < maxSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+            batch.add(next);
+            queue.drainTo(batch, maxSize - batch.size());
+        }
+        return batch;
+    }
+
+    // The HTTP call is asynchronous, so the flusher can keep filling the next batch
+    private void route(List<Pending> batch) {
+        batches.incrementAndGet();
+        items.addAndGet(batch.size());
+
+        routingEngine.routeBatchAsync(batch.stream().map(p -> p.event().getSubject()).toList())
+                .thenAcceptAsync(responses -> fanOut(batch, responses), aiExecutor)
+                .exceptionally(e -> {
+                    failedBatches.incrementAndGet();
+                    System.out.println(">>> [AI-BATCHER] Batch of " + batch.size() + " failed: " + e.getMessage());
+                    batch.forEach(p -> p.done().completeExceptionally(e));
+                    return null;
+                });
+    }
+
+    private void fanOut(List<Pending> batch, List<AiSearchResponse> responses) {
+        for (int i = 0; i < batch.size(); i++) {
+            Pending p = batch.get(i);
+            try {
+                long start = System.nanoTime();
+                outcomeWriter.apply(p.event().getTicketId(), responses.get(i));
+                metrics.recordPersistence(System.nanoTime() - start);
+                p.done().complete(null);
+            } catch (RuntimeException e) {
+                System.out.println(">>> [AI-BATCHER] Saving routing failed for ticketId="
+                        + p.event().getTicketId() + ": " + e.getMessage());
+                p.done().completeExceptionally(e);
+            }
+        }
+    }
+
+    public RoutingBatchStats stats() {
+        return new RoutingBatchStats(
+                enabled, maxSize, lingerMs, queue.size(),
+                batches.get(), items.get(), failedBatches.get()
+        );
+    }
+
+    private record Pending(TicketCreatedEvent event, CompletableFuture<Void> done) {}
+}
@@ -0,0 +1,16 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+// GET /api/tickets/stream while tickets.stream.max-subscribers streams are open; retry later
+public class TicketStreamFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TicketStreamFullException(int maxSubscribers, long retryAfterSeconds) {
+        super("Too many ticket stream subscribers: " + maxSubscribers);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
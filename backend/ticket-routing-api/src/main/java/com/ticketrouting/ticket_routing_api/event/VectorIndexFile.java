@@ -0,0 +1,143 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Binary chunk-vector file, little-endian:
+//   int magic, int version, int count, int dim,
+//   count * dim float32 vectors (row-major),
+//   count * (int len, utf8 team) , count * (int len, utf8 path)
+public final class VectorIndexFile {
+
+    private static final int MAGIC = 0x54525658; // "TRVX"
+    private static final int VERSION = 1;
+
+    private final int count;
+    private final int dim;
+    // read-only view into the mapping: vectors stay off-heap, paged in by the OS
+    private final FloatBuffer vectors;
+    private final String[] teams;
+    private final String[] paths;
+
+    private VectorIndexFile(int count, int dim, FloatBuffer vectors, String[] teams, String[] paths) {
+        this.count = count;
+        this.dim = dim;
+        this.vectors = vectors;
+        this.teams = teams;
+        this.paths = paths;
+    }
+
+    public int count() { return count; }
+    public int dim() { return dim; }
+    public FloatBuffer vectors() { return vectors; }
+    public String team(int i) { return teams[i]; }
+    public String path(int i) { return paths[i]; }
+
+    // Maps the file read-only; vectors are served from the mapping, only labels are copied to the heap.
+    // One mapping holds at most 2 GB, so larger indexes are rejected rather than wrapped around.
+    public static VectorIndexFile open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buf.getInt() != MAGIC) throw new IOException("Not a vector index file: " + file);
+            int version = buf.getInt();
+            if (version != VERSION) throw new IOException("Unsupported vector index version " + version);
+            int count = buf.getInt();
+            int dim = buf.getInt();
+
+            int floats;
+            int bytes;
+            try {
+                floats = Math.multiplyExact(count, dim);
+                bytes = Math.multiplyExact(floats, Float.BYTES);
+            } catch (ArithmeticException e) {
+                throw new IOException("Vector index too large to map: " + count + " x " + dim);
+            }
+            if (bytes > buf.remaining()) {
+                throw new IOException("Truncated vector index: " + file);
+            }
+
+            FloatBuffer vectors = buf.asFloatBuffer();
+            vectors.limit(floats);
+            buf.position(buf.position() + bytes);
+
+            String[] teams = readStrings(buf, count);
+            String[] paths = readStrings(buf, count);
+            return new VectorIndexFile(count, dim, vectors, teams, paths);
+        }
+    }
+
+    // Builds the file from the AI service's routing_chunks.jsonl export ({"team","path","text"} per line)
+    public static void buildFromChunks(Path chunksJsonl, Path out, HashedTextEmbedder embedder,
+                                       ObjectMapper objectMapper) throws IOException {
+        List<String> teams = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(chunksJsonl, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                JsonNode node = objectMapper.readTree(line);
+                teams.add(node.path("team").asText());
+                paths.add(node.path("path").asText(""));
+                vectors.add(embedder.embed(node.path("text").asText()));
+            }
+        }
+
+        try (OutputStream os = Files.newOutputStream(out);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(os))) {
+            ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(vectors.size()).putInt(embedder.dim());
+            data.write(header.array());
+
+            ByteBuffer row = ByteBuffer.allocate(embedder.dim() * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (float[] v : vectors) {
+                row.clear();
+                row.asFloatBuffer().put(v);
+                data.write(row.array());
+            }
+            writeStrings(data, teams);
+            writeStrings(data, paths);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buf, int count) {
+        String[] out = new String[count];
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[buf.getInt()];
+            buf.get(bytes);
+            out[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return out;
+    }
+
+    private static void writeStrings(DataOutputStream data, List<String> values) throws IOException {
+        ByteBuffer len = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        for (String v : values) {
+            byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+            len.clear();
+            len.putInt(bytes.length);
+            data.write(len.array());
+            data.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ticketrouting.ticket_routing_api.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+// In-process nearest-neighbour router over the knowledge-base chunks.
+// Vectors are hashed n-gram embeddings of the chunks exported by the AI service
+// (routing_chunks.jsonl); the index file is built from that export when missing.
+// Like the local model, its answers are suggestions only: confidence is capped below the auto-assign cutoff.
+@Component
+public class VectorRoutingEngine implements RoutingEngine {
+
+    private static final long BUILD_SEED = 42L;
+    private static final int MAX_RESULTS = 3;
+
+    private final ObjectMapper objectMapper;
+    private final String indexPath;
+    private final String chunksPath;
+    private final HashedTextEmbedder embedder;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int topK;
+    private final double minSimilarity;
+    private final double fullSimilarity;
+
+    private volatile VectorIndexFile file;
+    private volatile HnswIndex index;
+
+    public VectorRoutingEngine(
+            ObjectMapper objectMapper,
+            @Value("${ai.routing.vector.index-path:}") String indexPath,
+            @Value("${ai.routing.vector.chunks-path:}") String chunksPath,
+            @Value("${ai.routing.vector.dim:512}") int dim,
+            @Value("${ai.routing.vector.m:16}") int m,
+            @Value("${ai.routing.vector.ef-construction:200}") int efConstruction,
+            @Value("${ai.routing.vector.ef-search:64}") int efSearch,
+            @Value("${ai.routing.vector.top-k:10}") int topK,
+            @Value("${ai.routing.vector.min-similarity:0.2}") double minSimilarity,
+            @Value("${ai.routing.vector.full-similarity:0.6}") double fullSimilarity
+    ) {
+        this.objectMapper = objectMapper;
+        this.indexPath = indexPath;
+        this.chunksPath = chunksPath;
+        this.embedder = new HashedTextEmbedder(dim);
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.topK = topK;
+        this.minSimilarity = minSimilarity;
+        this.fullSimilarity = fullSimilarity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (indexPath.isBlank()) return;
+
+        try {
+            Path indexFile = Path.of(indexPath);
+            if (!Files.exists(indexFile)) {
+                if (chunksPath.isBlank() || !Files.exists(Path.of(chunksPath))) {
+                    System.out.println(">>> [VECTOR-ROUTER] No index at " + indexPath + " and no chunk export to build from");
+                    return;
+                }
+                VectorIndexFile.buildFromChunks(Path.of(chunksPath), indexFile, embedder, objectMapper);
+            }
+
+            VectorIndexFile loaded = VectorIndexFile.open(indexFile);
+            if (loaded.dim() != embedder.dim()) {
+                System.out.println(">>> [VECTOR-ROUTER] Index dim " + loaded.dim() + " != configured " + embedder.dim()
+                        + ", delete " + indexPath + " to rebuild");
+                return;
+            }
+
+            long start = System.nanoTime();
+            HnswIndex built = HnswIndex.build(loaded.vectors(), loaded.dim(), m, efConstruction, BUILD_SEED);
+            this.file = loaded;
+            this.index = built;
+
+            System.out.println(">>> [VECTOR-ROUTER] Indexed " + built.size() + " chunks in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (IOException e) {
+            System.out.println(">>> [VECTOR-ROUTER] Failed to load index: " + e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return isReady();
+    }
+
+    @Override
+    public CompletableFuture<AiSearchResponse> routeAsync(String subject) {
+        HnswIndex idx = index;
+        if (idx == null) {
+            return CompletableFuture.failedFuture(new AiServiceUnavailableException("Vector index not loaded"));
+        }
+        return CompletableFuture.completedFuture(route(idx, file, subject));
+    }
+
+    private AiSearchResponse route(HnswIndex idx, VectorIndexFile chunks, String subject) {
+        List<HnswIndex.Hit> hits = idx.search(embedder.embed(subject), topK, efSearch);
+
+        // team confidence = team's share of the similarity mass among hits above minSimilarity,
+        // scaled down when even the best hit is weaker than fullSimilarity: ten weak neighbours
+        // agreeing on a team is not a confident answer
+        Map<String, Double> teamScore = new LinkedHashMap<>();
+        double total = 0;
+        double best = 0;
+        for (HnswIndex.Hit hit : hits) {
+            double s = hit.similarity();
+            if (s < minSimilarity) continue;
+            teamScore.merge(chunks.team(hit.id()), s, Double::sum);
+            total += s;
+            best = Math.max(best, s);
+        }
+        double scale = Math.min(1.0, best / fullSimilarity);
+
+        List<AiTeamConfidence> teams = new ArrayList<>();
+        if (total > 0) {
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>(teamScore.entrySet());
+            ranked.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+            int rank = 1;
+            for (Map.Entry<String, Double> e : ranked) {
+                double confidence = Math.min(Math.round(e.getValue() / total * scale * 10000.0) / 100.0,
+                        LocalRoutingEngine.MAX_CONFIDENCE);
+                teams.add(new AiTeamConfidence(e.getKey(), confidence, rank++));
+            }
+        }
+
+        List<AiSearchResult> results = new ArrayList<>();
+        for (HnswIndex.Hit hit : hits.subList(0, Math.min(MAX_RESULTS, hits.size()))) {
+            AiSearchResult r = new AiSearchResult();
+            r.setPath(chunks.path(hit.id()));
+            r.setTeam(chunks.team(hit.id()));
+            r.setScore(hit.similarity());
+            results.add(r);
+        }
+
+        AiSearchResponse response = new AiSearchResponse();
+        response.setTeams(teams);
+        response.setResults(results);
+        response.setAutoAssign(false);
+        return response;
+    }
+}
@@ -2,9 +2,13 @@ package com.ticketrouting.ticket_routing_api.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
-@Table(name = "customer")
+@Table(name = "customer", indexes = {
+        // conflict target of CustomerRepository.upsertByEmail
+        @Index(name = "ux_customer_email_normalized", columnList = "email_normalized", unique = true)
+})
 public class Customer {
 
     @Id
@@ -17,6 +21,10 @@ public class Customer {
     @Column(nullable = false, length = 180, unique = true)
     private String email;
 
+    // lower-cased, trimmed copy of email; the uniqueness the upsert relies on
+    @Column(name = "email_normalized", length = 180)
+    private String emailNormalized;
+
     @Column(nullable = false)
     private Boolean active = true;
 
@@ -28,6 +36,16 @@ public class Customer {
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
+        this.emailNormalized = normalizeEmail(email);
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.emailNormalized = normalizeEmail(email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 
     // --- getters/setters ---
@@ -40,6 +58,8 @@ public class Customer {
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
 
+    public String getEmailNormalized() { return emailNormalized; }
+
     public Boolean getActive() { return active; }
     public void setActive(Boolean active) { this.active = active; }
 
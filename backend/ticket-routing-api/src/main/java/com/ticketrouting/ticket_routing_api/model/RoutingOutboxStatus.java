@@ -0,0 +1,7 @@
+package com.ticketrouting.ticket_routing_api.model;
+
+public enum RoutingOutboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
@@ -4,17 +4,28 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ticket")
+@Table(name = "ticket", indexes = {
+        // list filters: status / priority / team, newest first
+        @Index(name = "idx_ticket_status_priority_team_created",
+                columnList = "status, priority, assigned_team_id, created_at"),
+        @Index(name = "idx_ticket_team_created", columnList = "assigned_team_id, created_at"),
+        @Index(name = "idx_ticket_created_id", columnList = "created_at, id"),
+        // change feed: everything touched after a cursor, oldest first
+        @Index(name = "idx_ticket_updated_id", columnList = "updated_at, id")
+})
 public class Ticket {
 
+    // pooled sequence instead of IDENTITY so Hibernate can batch inserts (see SequenceAligner)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "ticket_number", nullable = false, length = 30, unique = true)
     private String ticketNumber;
 
-    @Lob
+    // TEXT, not @Lob: on PostgreSQL a LOB is an oid column, which lower()/LIKE can't search
+    @Column(columnDefinition = "TEXT")
     private String subject;
 
     @Enumerated(EnumType.STRING)
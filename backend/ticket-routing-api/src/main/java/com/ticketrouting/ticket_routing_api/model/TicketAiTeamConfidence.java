@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 public class TicketAiTeamConfidence {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_ai_team_confidence_seq")
+    @SequenceGenerator(name = "ticket_ai_team_confidence_seq", sequenceName = "ticket_ai_team_confidence_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +23,10 @@ public class TicketAiTeamConfidence {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    public Ticket getTicket() {
+        return this.ticket;
+    }
+
     public void setTicket(Ticket ticket) {
         this.ticket= ticket;
     }
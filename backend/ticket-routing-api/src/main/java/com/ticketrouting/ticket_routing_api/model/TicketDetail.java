@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 public class TicketDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_detail_seq")
+    @SequenceGenerator(name = "ticket_detail_seq", sequenceName = "ticket_detail_seq", allocationSize = 50)
     private Long id;
 
     // uq_ticket_detail_ticket ensures 1:1
@@ -0,0 +1,32 @@
+package com.ticketrouting.ticket_routing_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Lease on one ticket-number node id (0..1023). Only TicketNumberGenerator writes it, through native SQL;
+// an instance owns its id while it keeps heartbeat_at fresh.
+@Entity
+@Table(name = "ticket_number_node")
+public class TicketNumberNode {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    @Column(nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    public TicketNumberNode() {}
+
+    public Integer getNodeId() { return nodeId; }
+    public void setNodeId(Integer nodeId) { this.nodeId = nodeId; }
+
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+
+    public LocalDateTime getHeartbeatAt() { return heartbeatAt; }
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) { this.heartbeatAt = heartbeatAt; }
+}
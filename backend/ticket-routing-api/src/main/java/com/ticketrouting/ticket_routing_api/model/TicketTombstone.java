@@ -0,0 +1,40 @@
+package com.ticketrouting.ticket_routing_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Marks a deleted ticket so /api/tickets/changes can report the delete; written in the delete's transaction
+@Entity
+@Table(name = "ticket_tombstone", indexes = {
+        @Index(name = "idx_ticket_tombstone_deleted_id", columnList = "deleted_at, ticket_id")
+})
+public class TicketTombstone {
+
+    // the deleted ticket's id, never generated
+    @Id
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "ticket_number", nullable = false, length = 30)
+    private String ticketNumber;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TicketTombstone() {}
+
+    public TicketTombstone(Long ticketId, String ticketNumber, LocalDateTime deletedAt) {
+        this.ticketId = ticketId;
+        this.ticketNumber = ticketNumber;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getTicketId() { return ticketId; }
+    public void setTicketId(Long ticketId) { this.ticketId = ticketId; }
+
+    public String getTicketNumber() { return ticketNumber; }
+    public void setTicketNumber(String ticketNumber) { this.ticketNumber = ticketNumber; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+}
@@ -0,0 +1,159 @@
+package com.ticketrouting.ticket_routing_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Denormalized list row: ticket + requester + team + detail + top-3 confidences in one table.
+// Written only by TicketViewProjector (and the rename fan-out in TeamService/CustomerService);
+// read by the ticket list when tickets.read-model.enabled=true.
+@Entity
+@Table(name = "ticket_view", indexes = {
+        // same list shapes as ticket, now without joins
+        @Index(name = "idx_ticket_view_status_priority_team_created",
+                columnList = "status, priority, assigned_team_id, created_at"),
+        @Index(name = "idx_ticket_view_team_created", columnList = "assigned_team_id, created_at"),
+        @Index(name = "idx_ticket_view_team_key_created", columnList = "assigned_team_key, created_at"),
+        @Index(name = "idx_ticket_view_created_id", columnList = "created_at, ticket_id"),
+        @Index(name = "idx_ticket_view_requester", columnList = "requester_id")
+})
+public class TicketView {
+
+    // the ticket's id, never generated
+    @Id
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "ticket_number", nullable = false, length = 30)
+    private String ticketNumber;
+
+    @Column(columnDefinition = "TEXT")
+    private String subject;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TicketStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TicketPriority priority;
+
+    @Column(name = "requester_id")
+    private Long requesterId;
+
+    @Column(name = "requester_name", length = 120)
+    private String requesterName;
+
+    @Column(name = "requester_email", length = 180)
+    private String requesterEmail;
+
+    @Column(name = "assigned_team_id")
+    private Long assignedTeamId;
+
+    @Column(name = "assigned_team_name", length = 120)
+    private String assignedTeamName;
+
+    // lower(trim(name)): the team-name filter is an equality on this column
+    @Column(name = "assigned_team_key", length = 120)
+    private String assignedTeamKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // ticket.updated_at this row was projected from
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // null when the ticket has no detail row
+    @Column(name = "detail_created_at")
+    private LocalDateTime detailCreatedAt;
+
+    @Column(name = "ai_suggested_team", length = 120)
+    private String aiSuggestedTeam;
+
+    @Column(name = "ai_confidence")
+    private Double aiConfidence;
+
+    @Column(name = "team1_name", length = 120)
+    private String team1Name;
+    @Column(name = "team1_confidence")
+    private Double team1Confidence;
+    @Column(name = "team2_name", length = 120)
+    private String team2Name;
+    @Column(name = "team2_confidence")
+    private Double team2Confidence;
+    @Column(name = "team3_name", length = 120)
+    private String team3Name;
+    @Column(name = "team3_confidence")
+    private Double team3Confidence;
+
+    @Column(name = "projected_at", nullable = false)
+    private LocalDateTime projectedAt;
+
+    public TicketView() {}
+
+    public Long getTicketId() { return ticketId; }
+    public void setTicketId(Long ticketId) { this.ticketId = ticketId; }
+
+    public String getTicketNumber() { return ticketNumber; }
+    public void setTicketNumber(String ticketNumber) { this.ticketNumber = ticketNumber; }
+
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+
+    public TicketStatus getStatus() { return status; }
+    public void setStatus(TicketStatus status) { this.status = status; }
+
+    public TicketPriority getPriority() { return priority; }
+    public void setPriority(TicketPriority priority) { this.priority = priority; }
+
+    public Long getRequesterId() { return requesterId; }
+    public void setRequesterId(Long requesterId) { this.requesterId = requesterId; }
+
+    public String getRequesterName() { return requesterName; }
+    public void setRequesterName(String requesterName) { this.requesterName = requesterName; }
+
+    public String getRequesterEmail() { return requesterEmail; }
+    public void setRequesterEmail(String requesterEmail) { this.requesterEmail = requesterEmail; }
+
+    public Long getAssignedTeamId() { return assignedTeamId; }
+    public void setAssignedTeamId(Long assignedTeamId) { this.assignedTeamId = assignedTeamId; }
+
+    public String getAssignedTeamName() { return assignedTeamName; }
+    public void setAssignedTeamName(String assignedTeamName) { this.assignedTeamName = assignedTeamName; }
+
+    public String getAssignedTeamKey() { return assignedTeamKey; }
+    public void setAssignedTeamKey(String assignedTeamKey) { this.assignedTeamKey = assignedTeamKey; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getDetailCreatedAt() { return detailCreatedAt; }
+    public void setDetailCreatedAt(LocalDateTime detailCreatedAt) { this.detailCreatedAt = detailCreatedAt; }
+
+    public String getAiSuggestedTeam() { return aiSuggestedTeam; }
+    public void setAiSuggestedTeam(String aiSuggestedTeam) { this.aiSuggestedTeam = aiSuggestedTeam; }
+
+    public Double getAiConfidence() { return aiConfidence; }
+    public void setAiConfidence(Double aiConfidence) { this.aiConfidence = aiConfidence; }
+
+    public String getTeam1Name() { return team1Name; }
+    public void setTeam1Name(String team1Name) { this.team1Name = team1Name; }
+    public Double getTeam1Confidence() { return team1Confidence; }
+    public void setTeam1Confidence(Double team1Confidence) { this.team1Confidence = team1Confidence; }
+
+    public String getTeam2Name() { return team2Name; }
+    public void setTeam2Name(String team2Name) { this.team2Name = team2Name; }
+    public Double getTeam2Confidence() { return team2Confidence; }
+    public void setTeam2Confidence(Double team2Confidence) { this.team2Confidence = team2Confidence; }
+
+    public String getTeam3Name() { return team3Name; }
+    public void setTeam3Name(String team3Name) { this.team3Name = team3Name; }
+    public Double getTeam3Confidence() { return team3Confidence; }
+    public void setTeam3Confidence(Double team3Confidence) { this.team3Confidence = team3Confidence; }
+
+    public LocalDateTime getProjectedAt() { return projectedAt; }
+    public void setProjectedAt(LocalDateTime projectedAt) { this.projectedAt = projectedAt; }
+}
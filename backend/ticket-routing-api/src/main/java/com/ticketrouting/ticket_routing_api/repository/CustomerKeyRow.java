@@ -0,0 +1,9 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+// What CustomerRepository.upsertByEmail returns: enough to reference the row without loading it
+public interface CustomerKeyRow {
+    Long getId();
+    String getEmail();
+    String getFullName();
+    Boolean getActive();
+}
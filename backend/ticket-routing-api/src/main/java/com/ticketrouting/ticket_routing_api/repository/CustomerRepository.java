@@ -2,11 +2,41 @@ package com.ticketrouting.ticket_routing_api.repository;
 
 import com.ticketrouting.ticket_routing_api.model.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByEmailIgnoreCase(String email);
 
+    // One round trip, race-free: concurrent callers with the same email all get the same id.
+    // The no-op DO UPDATE makes RETURNING yield the existing row on conflict.
+    @Query(value = "INSERT INTO customer (full_name, email, email_normalized, active, created_at) " +
+            "VALUES (:fullName, :email, :emailNormalized, true, now()) " +
+            "ON CONFLICT (email_normalized) DO UPDATE SET email_normalized = EXCLUDED.email_normalized " +
+            "RETURNING id, email, full_name AS fullName, active",
+            nativeQuery = true)
+    CustomerKeyRow upsertByEmail(@Param("email") String email,
+                       @Param("emailNormalized") String emailNormalized,
+                       @Param("fullName") String fullName);
+
+    // Rows created before email_normalized existed. Case-variant duplicates would break the unique
+    // index, so only the oldest row of each group (and only if no row holds the key yet) is filled;
+    // the rest stay NULL until merged, and upserts for their email resolve to the filled row.
+    @Modifying
+    @Query(value = "UPDATE customer c SET email_normalized = lower(trim(c.email)) " +
+            "WHERE c.email_normalized IS NULL " +
+            "AND c.id = (SELECT min(o.id) FROM customer o WHERE lower(trim(o.email)) = lower(trim(c.email))) " +
+            "AND NOT EXISTS (SELECT 1 FROM customer o WHERE o.email_normalized = lower(trim(c.email)))",
+            nativeQuery = true)
+    int backfillNormalizedEmail();
+
+    // what the backfill had to leave behind: case-variant duplicates to merge by hand
+    @Query(value = "SELECT email FROM customer WHERE email_normalized IS NULL ORDER BY lower(trim(email)), id",
+            nativeQuery = true)
+    List<String> findUnnormalizedEmails();
 }
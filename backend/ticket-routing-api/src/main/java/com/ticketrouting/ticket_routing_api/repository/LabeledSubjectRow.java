@@ -0,0 +1,9 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+// A ticket subject with the team a human last reassigned it to (training label).
+// id is the ticket_activity id, the paging key.
+public interface LabeledSubjectRow {
+    Long getId();
+    String getSubject();
+    String getTeamName();
+}
@@ -0,0 +1,52 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.model.RoutingOutbox;
+import com.ticketrouting.ticket_routing_api.model.RoutingOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RoutingOutboxRepository extends JpaRepository<RoutingOutbox, Long> {
+
+    // SKIP LOCKED lets several API instances claim disjoint batches concurrently
+    @Query(value = "SELECT * FROM routing_outbox " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<RoutingOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("update RoutingOutbox o set o.status = :status, o.updatedAt = :now where o.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") RoutingOutboxStatus status,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RoutingOutbox o set o.status = :status, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :error, o.updatedAt = :now where o.id = :id")
+    int reschedule(@Param("id") Long id,
+                   @Param("status") RoutingOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RoutingOutbox o set o.attempts = o.attempts - 1, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.updatedAt = :now where o.id = :id and o.attempts > 0")
+    int defer(@Param("id") Long id,
+              @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM routing_outbox WHERE id IN (" +
+            "SELECT id FROM routing_outbox WHERE status = 'DONE' AND updated_at < :before " +
+            "ORDER BY id LIMIT :limit)",
+            nativeQuery = true)
+    int deleteDone(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    long countByStatus(RoutingOutboxStatus status);
+}
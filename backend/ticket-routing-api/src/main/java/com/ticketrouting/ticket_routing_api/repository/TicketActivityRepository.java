@@ -1,10 +1,22 @@
 package com.ticketrouting.ticket_routing_api.repository;
 
 import com.ticketrouting.ticket_routing_api.model.TicketActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TicketActivityRepository extends JpaRepository<TicketActivity, Long> {
     List<TicketActivity> findByTicketIdOrderByCreatedAtAsc(Long ticketId);
+
+    // Human-confirmed labels: each ticket's latest reassignment only
+    @Query("select a.id as id, t.subject as subject, a.humanAssignedTeam as teamName " +
+            "from TicketActivity a join a.ticket t " +
+            "where a.id > :afterId and a.humanAssignedTeam is not null " +
+            "and a.id = (select max(a2.id) from TicketActivity a2 " +
+            "where a2.ticket = a.ticket and a2.humanAssignedTeam is not null) " +
+            "order by a.id")
+    List<LabeledSubjectRow> findLabeledRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
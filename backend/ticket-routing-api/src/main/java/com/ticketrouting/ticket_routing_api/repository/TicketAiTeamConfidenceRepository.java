@@ -2,12 +2,27 @@ package com.ticketrouting.ticket_routing_api.repository;
 
 import com.ticketrouting.ticket_routing_api.model.TicketAiTeamConfidence;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TicketAiTeamConfidenceRepository
         extends JpaRepository<TicketAiTeamConfidence, Long> {
 
     List<TicketAiTeamConfidence> findByTicketIdOrderByRankOrderAsc(Long ticketId);
-}
 
+    // One IN (...) batch for a whole list page instead of one query per ticket
+    @Query("select c from TicketAiTeamConfidence c " +
+            "where c.ticket.id in :ticketIds and c.rankOrder <= :maxRank " +
+            "order by c.ticket.id, c.rankOrder")
+    List<TicketAiTeamConfidence> findTopByTicketIds(@Param("ticketIds") Collection<Long> ticketIds,
+                                                    @Param("maxRank") int maxRank);
+
+    // Clears a previous routing outcome so a re-delivered outbox row does not duplicate rows
+    @Modifying
+    @Query("delete from TicketAiTeamConfidence c where c.ticket.id = :ticketId")
+    int deleteByTicketId(@Param("ticketId") Long ticketId);
+}
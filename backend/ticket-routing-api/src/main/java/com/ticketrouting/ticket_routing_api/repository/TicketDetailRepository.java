@@ -2,9 +2,26 @@ package com.ticketrouting.ticket_routing_api.repository;
 
 import com.ticketrouting.ticket_routing_api.model.TicketDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketDetailRepository extends JpaRepository<TicketDetail, Long> {
     Optional<TicketDetail> findByTicketId(Long ticketId);
+
+    @Modifying
+    @Query("update TicketDetail d set d.aiSuggestedTeam = :team, d.aiConfidence = :confidence, " +
+            "d.description = :description where d.ticket.id = :ticketId")
+    int updateAiSummary(@Param("ticketId") Long ticketId,
+                        @Param("team") String team,
+                        @Param("confidence") Double confidence,
+                        @Param("description") String description);
+
+    // Tickets whose routing outcome has been stored
+    @Query("select d.ticket.id from TicketDetail d where d.ticket.id in :ticketIds and d.aiConfidence is not null")
+    List<Long> findRoutedTicketIds(@Param("ticketIds") Collection<Long> ticketIds);
 }
@@ -1,13 +1,21 @@
 package com.ticketrouting.ticket_routing_api.repository;
 
+import com.ticketrouting.ticket_routing_api.model.Team;
 import com.ticketrouting.ticket_routing_api.model.Ticket;
 import com.ticketrouting.ticket_routing_api.model.TicketStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>,
+        TicketRepositoryCustom {
 
     List<Ticket> findByStatus(TicketStatus status);
 
@@ -16,4 +24,52 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     List<Ticket> findByCategory(String category);
 
     Optional<Ticket> findByTicketNumber(String ticketNumber);
+
+    @Query("select t.id as id, t.ticketNumber as ticketNumber, t.subject as subject, " +
+            "r.fullName as requesterName, r.email as requesterEmail " +
+            "from Ticket t join t.requester r where t.id > :afterId order by t.id")
+    List<TicketSearchRow> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select t.id as id, t.ticketNumber as ticketNumber, t.subject as subject, " +
+            "r.fullName as requesterName, r.email as requesterEmail " +
+            "from Ticket t join t.requester r where r.id = :customerId")
+    List<TicketSearchRow> findSearchRowsByRequester(@Param("customerId") Long customerId);
+
+    @Query("select t.id from Ticket t where t.id > :afterId order by t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Routing outcome: sets (or clears, with null) the assignment without loading the ticket.
+    // Only touches an assignment the AI owns: the ticket is unassigned or holds the team the
+    // previous outcome auto-assigned, and no human reassignment was recorded. 0 = left alone.
+    @Modifying
+    @Query("update Ticket t set t.assignedTeam = :team, t.updatedAt = :now where t.id = :id " +
+            "and not exists (select a.id from TicketActivity a " +
+            "where a.ticket.id = :id and a.humanAssignedTeam is not null) " +
+            "and (t.assignedTeam is null or exists (select d.id from TicketDetail d, Team tm " +
+            "where d.ticket.id = :id and tm.id = t.assignedTeam.id and tm.name = d.aiSuggestedTeam " +
+            "and d.aiConfidence >= :autoAssign))")
+    int updateAiAssignedTeam(@Param("id") Long id, @Param("team") Team team, @Param("now") LocalDateTime now,
+                             @Param("autoAssign") double autoAssignConfidence);
+
+    // Previous dashboard slot of a ticket the routing outcome is about to change; the row
+    // stays locked until commit so a concurrent reassignment cannot slip in between
+    @Query(value = "SELECT t.assigned_team_id AS teamId, t.status AS status, t.priority AS priority, " +
+            "(d.ai_confidence IS NOT NULL) AS routed " +
+            "FROM ticket t LEFT JOIN ticket_detail d ON d.ticket_id = t.id " +
+            "WHERE t.id = :id FOR UPDATE OF t",
+            nativeQuery = true)
+    Optional<TicketSlotRow> lockSlot(@Param("id") Long id);
+
+    // Reconciliation source for TicketAggregates
+    @Query(value = "SELECT t.assigned_team_id AS teamId, t.status AS status, t.priority AS priority, " +
+            "(d.ai_confidence IS NOT NULL) AS routed, COUNT(*) AS total " +
+            "FROM ticket t LEFT JOIN ticket_detail d ON d.ticket_id = t.id " +
+            "GROUP BY t.assigned_team_id, t.status, t.priority, (d.ai_confidence IS NOT NULL)",
+            nativeQuery = true)
+    List<TicketSlotCountRow> countBySlot();
+
+    // Child-row edits (detail) bump the ticket so the change feed picks them up
+    @Modifying
+    @Query("update Ticket t set t.updatedAt = :now where t.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,16 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TicketRepositoryCustom {
+
+    // Newest first on (created_at, id); no OFFSET and no count query.
+    // requester, assignedTeam and ticketDetail are fetch-joined.
+    List<Ticket> findSlice(Specification<Ticket> spec, int limit);
+
+    // Oldest change first on (updated_at, id), same fetch joins as findSlice
+    List<Ticket> findChanged(Specification<Ticket> spec, int limit);
+}
@@ -0,0 +1,53 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class TicketRepositoryImpl implements TicketRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Ticket> findSlice(Specification<Ticket> spec, int limit) {
+        return find(spec, limit, "createdAt", false);
+    }
+
+    @Override
+    public List<Ticket> findChanged(Specification<Ticket> spec, int limit) {
+        return find(spec, limit, "updatedAt", true);
+    }
+
+    // keyset order is (orderBy, id) in one direction, so the matching index serves it
+    private List<Ticket> find(Specification<Ticket> spec, int limit, String orderBy, boolean ascending) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        // everything a list row needs comes back in this one statement
+        root.fetch("requester", JoinType.INNER);
+        root.fetch("assignedTeam", JoinType.LEFT);
+        root.fetch("ticketDetail", JoinType.LEFT);
+
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) {
+            query.where(where);
+        }
+        query.select(root).orderBy(ascending
+                ? List.of(cb.asc(root.get(orderBy)), cb.asc(root.get("id")))
+                : List.of(cb.desc(root.get(orderBy)), cb.desc(root.get("id"))));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
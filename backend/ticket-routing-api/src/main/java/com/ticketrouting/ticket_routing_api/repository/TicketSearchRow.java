@@ -0,0 +1,10 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+// Projection of just the columns the search index needs
+public interface TicketSearchRow {
+    Long getId();
+    String getTicketNumber();
+    String getSubject();
+    String getRequesterName();
+    String getRequesterEmail();
+}
@@ -0,0 +1,5 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+public interface TicketSlotCountRow extends TicketSlotRow {
+    Long getTotal();
+}
@@ -0,0 +1,9 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+// Which dashboard counter a ticket falls into
+public interface TicketSlotRow {
+    Long getTeamId();
+    String getStatus();
+    String getPriority();
+    Boolean getRouted();
+}
@@ -0,0 +1,94 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.dto.TicketChangeCursor;
+import com.ticketrouting.ticket_routing_api.dto.TicketCursor;
+import com.ticketrouting.ticket_routing_api.model.Customer;
+import com.ticketrouting.ticket_routing_api.model.Team;
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.model.TicketPriority;
+import com.ticketrouting.ticket_routing_api.model.TicketStatus;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+
+// Each optional list filter becomes one SQL predicate, so the DB does the filtering
+public final class TicketSpecifications {
+
+    private TicketSpecifications() {}
+
+    public static Specification<Ticket> hasStatus(TicketStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Ticket> hasPriority(TicketPriority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Ticket> assignedToTeamId(Long teamId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTeam").get("id"), teamId);
+    }
+
+    public static Specification<Ticket> assignedToTeamName(String teamName) {
+        String tn = teamName.trim().toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> {
+            Join<Ticket, Team> team = root.join("assignedTeam", JoinType.INNER);
+            return cb.equal(cb.lower(cb.trim(team.get("name"))), tn);
+        };
+    }
+
+    public static Specification<Ticket> matchesSearch(String search) {
+        String pattern = "%" + escapeLike(search.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> {
+            Join<Ticket, Customer> requester = root.join("requester", JoinType.LEFT);
+            return cb.or(
+                    cb.like(cb.lower(root.get("ticketNumber")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("subject")), pattern, '\\'),
+                    cb.like(cb.lower(requester.get("fullName")), pattern, '\\'),
+                    cb.like(cb.lower(requester.get("email")), pattern, '\\')
+            );
+        };
+    }
+
+    public static Specification<Ticket> idIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    // Keyset predicate for (created_at DESC, id DESC): rows strictly after the cursor
+    public static Specification<Ticket> after(TicketCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                        cb.lessThan(root.get("id"), cursor.getId())
+                )
+        );
+    }
+
+    // Keyset predicate for (updated_at ASC, id ASC): changes strictly after the cursor
+    public static Specification<Ticket> changedAfter(TicketChangeCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("updatedAt"), cursor.getChangedAt()),
+                cb.and(
+                        cb.equal(root.get("updatedAt"), cursor.getChangedAt()),
+                        cb.greaterThan(root.get("id"), cursor.getId())
+                )
+        );
+    }
+
+    public static Specification<Ticket> changedBefore(LocalDateTime until) {
+        return (root, query, cb) -> cb.lessThan(root.get("updatedAt"), until);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,23 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.model.TicketTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TicketTombstoneRepository extends JpaRepository<TicketTombstone, Long> {
+
+    // Oldest first on (deleted_at, ticket_id): strictly after the cursor, strictly before the settle bound
+    @Query("select t from TicketTombstone t " +
+            "where (t.deletedAt > :afterAt or (t.deletedAt = :afterAt and t.ticketId > :afterId)) " +
+            "and t.deletedAt < :until " +
+            "order by t.deletedAt, t.ticketId")
+    List<TicketTombstone> findChanged(@Param("afterAt") LocalDateTime afterAt,
+                                      @Param("afterId") Long afterId,
+                                      @Param("until") LocalDateTime until,
+                                      Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.model.TicketView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TicketViewRepository extends JpaRepository<TicketView, Long>, TicketViewRepositoryCustom {
+
+    // Rename fan-out: one set-based UPDATE instead of re-projecting every ticket of the team
+    @Modifying
+    @Query("update TicketView v set v.assignedTeamName = :name, v.assignedTeamKey = :teamKey " +
+            "where v.assignedTeamId = :teamId")
+    int updateTeamName(@Param("teamId") Long teamId, @Param("name") String name, @Param("teamKey") String teamKey);
+
+    @Modifying
+    @Query("update TicketView v set v.requesterName = :name, v.requesterEmail = :email " +
+            "where v.requesterId = :requesterId")
+    int updateRequester(@Param("requesterId") Long requesterId,
+                        @Param("name") String name,
+                        @Param("email") String email);
+
+    @Modifying
+    @Query("delete from TicketView v where v.ticketId in :ticketIds")
+    int deleteByTicketIds(@Param("ticketIds") Collection<Long> ticketIds);
+
+    // ---- consistency checks: each returns ticket ids, compared column by column with the sources
+
+    @Query(value = "SELECT t.id FROM ticket t LEFT JOIN ticket_view v ON v.ticket_id = t.id " +
+            "WHERE v.ticket_id IS NULL ORDER BY t.id",
+            nativeQuery = true)
+    List<Long> findMissingIds();
+
+    @Query(value = "SELECT v.ticket_id FROM ticket_view v LEFT JOIN ticket t ON t.id = v.ticket_id " +
+            "WHERE t.id IS NULL ORDER BY v.ticket_id",
+            nativeQuery = true)
+    List<Long> findOrphanIds();
+
+    // updated_at covers every ticket, detail and confidence write; names change without touching the ticket
+    @Query(value = "SELECT t.id FROM ticket t " +
+            "JOIN ticket_view v ON v.ticket_id = t.id " +
+            "JOIN customer c ON c.id = t.requester_id " +
+            "LEFT JOIN team tm ON tm.id = t.assigned_team_id " +
+            "WHERE v.updated_at <> t.updated_at " +
+            "OR v.status <> t.status OR v.priority <> t.priority " +
+            "OR v.assigned_team_id IS DISTINCT FROM t.assigned_team_id " +
+            "OR v.assigned_team_name IS DISTINCT FROM tm.name " +
+            "OR v.requester_name IS DISTINCT FROM c.full_name " +
+            "OR v.requester_email IS DISTINCT FROM c.email " +
+            "ORDER BY t.id",
+            nativeQuery = true)
+    List<Long> findStaleIds();
+}
@@ -0,0 +1,12 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.model.TicketView;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TicketViewRepositoryCustom {
+
+    // Newest first on (created_at, ticket_id); single table, no OFFSET and no count query
+    List<TicketView> findSlice(Specification<TicketView> spec, int limit);
+}
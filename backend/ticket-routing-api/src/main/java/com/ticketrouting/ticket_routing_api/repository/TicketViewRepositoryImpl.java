@@ -0,0 +1,35 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.model.TicketView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class TicketViewRepositoryImpl implements TicketViewRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<TicketView> findSlice(Specification<TicketView> spec, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TicketView> query = cb.createQuery(TicketView.class);
+        Root<TicketView> root = query.from(TicketView.class);
+
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) {
+            query.where(where);
+        }
+        query.select(root).orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("ticketId")));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
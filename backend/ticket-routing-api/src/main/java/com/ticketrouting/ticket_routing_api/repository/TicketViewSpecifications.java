@@ -0,0 +1,72 @@
+package com.ticketrouting.ticket_routing_api.repository;
+
+import com.ticketrouting.ticket_routing_api.dto.TicketCursor;
+import com.ticketrouting.ticket_routing_api.model.TicketPriority;
+import com.ticketrouting.ticket_routing_api.model.TicketStatus;
+import com.ticketrouting.ticket_routing_api.model.TicketView;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Locale;
+
+// TicketSpecifications for the read model: the same filters, every one on a ticket_view column
+public final class TicketViewSpecifications {
+
+    private TicketViewSpecifications() {}
+
+    public static Specification<TicketView> hasStatus(TicketStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<TicketView> hasPriority(TicketPriority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<TicketView> assignedToTeamId(Long teamId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTeamId"), teamId);
+    }
+
+    public static Specification<TicketView> assignedToTeamName(String teamName) {
+        String key = teamKey(teamName);
+        return (root, query, cb) -> cb.equal(root.get("assignedTeamKey"), key);
+    }
+
+    public static Specification<TicketView> matchesSearch(String search) {
+        String pattern = "%" + escapeLike(search.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("ticketNumber")), pattern, '\\'),
+                cb.like(cb.lower(root.get("subject")), pattern, '\\'),
+                cb.like(cb.lower(root.get("requesterName")), pattern, '\\'),
+                cb.like(cb.lower(root.get("requesterEmail")), pattern, '\\')
+        );
+    }
+
+    public static Specification<TicketView> idIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> root.get("ticketId").in(ids);
+    }
+
+    // Keyset predicate for (created_at DESC, ticket_id DESC): rows strictly after the cursor
+    public static Specification<TicketView> after(TicketCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                        cb.lessThan(root.get("ticketId"), cursor.getId())
+                )
+        );
+    }
+
+    // what ticket_view.assigned_team_key holds for a team name
+    public static String teamKey(String teamName) {
+        return teamName == null ? null : teamName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
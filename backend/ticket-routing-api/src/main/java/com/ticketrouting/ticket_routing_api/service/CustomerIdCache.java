@@ -0,0 +1,114 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.model.Customer;
+import com.ticketrouting.ticket_routing_api.repository.CustomerKeyRow;
+import com.ticketrouting.ticket_routing_api.repository.CustomerRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Bounded LRU of normalized email -> customer id in front of the upsert.
+// Repeat requesters cost no query at all; new ones cost exactly one.
+@Component
+public class CustomerIdCache {
+
+    private record Key(Long id, String email, String fullName, Boolean active) {}
+
+    private final CustomerRepository customerRepo;
+    private final Map<String, Key> ids;
+
+    public CustomerIdCache(
+            CustomerRepository customerRepo,
+            @Value("${customers.id-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.customerRepo = customerRepo;
+        this.ids = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Key> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        try {
+            int rows = customerRepo.backfillNormalizedEmail();
+            if (rows > 0) {
+                System.out.println(">>> [CUSTOMERS] Backfilled email_normalized on " + rows + " rows");
+            }
+            List<String> duplicates = customerRepo.findUnnormalizedEmails();
+            if (!duplicates.isEmpty()) {
+                System.out.println(">>> [CUSTOMERS] " + duplicates.size()
+                        + " case-variant duplicate emails left unnormalized, merge by hand: " + duplicates);
+            }
+        } catch (RuntimeException e) {
+            System.out.println(">>> [CUSTOMERS] email_normalized backfill failed: " + e.getMessage());
+        }
+    }
+
+    // Detached Customer carrying just the row's key fields: enough for a ticket's FK and its JSON.
+    // Must run inside the caller's transaction.
+    public Customer resolve(String email, String fullName) {
+        String normalized = Customer.normalizeEmail(email);
+
+        Key cached;
+        synchronized (ids) {
+            cached = ids.get(normalized);
+        }
+        if (cached != null) return toCustomer(cached);
+
+        CustomerKeyRow row = customerRepo.upsertByEmail(email.trim(), normalized, fullName != null ? fullName : "Unknown");
+        Key key = new Key(row.getId(), row.getEmail(), row.getFullName(), row.getActive());
+
+        // an id from a rolled-back insert must never be served to later requests
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(normalized, key);
+                }
+            });
+        } else {
+            remember(normalized, key);
+        }
+        return toCustomer(key);
+    }
+
+    // true when an id was cached for the email
+    public boolean evict(String email) {
+        synchronized (ids) {
+            return ids.remove(Customer.normalizeEmail(email)) != null;
+        }
+    }
+
+    public void evictId(Long id) {
+        synchronized (ids) {
+            ids.values().removeIf(k -> k.id().equals(id));
+        }
+    }
+
+    private void remember(String normalized, Key key) {
+        synchronized (ids) {
+            ids.put(normalized, key);
+        }
+    }
+
+    private static Customer toCustomer(Key key) {
+        Customer c = new Customer();
+        c.setId(key.id());
+        c.setEmail(key.email());
+        c.setFullName(key.fullName());
+        c.setActive(key.active());
+        return c;
+    }
+}
@@ -2,6 +2,7 @@ package com.ticketrouting.ticket_routing_api.service;
 
 import com.ticketrouting.ticket_routing_api.model.Customer;
 import com.ticketrouting.ticket_routing_api.repository.CustomerRepository;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,9 +11,18 @@ import java.util.List;
 public class CustomerService {
 
     private final CustomerRepository repo;
+    private final CustomerIdCache idCache;
+    private final TicketVersions ticketVersions;
+    private final TicketViewProjector viewProjector;
+    private final TicketSearchIndex searchIndex;
 
-    public CustomerService(CustomerRepository repo) {
+    public CustomerService(CustomerRepository repo, CustomerIdCache idCache, TicketVersions ticketVersions,
+                           TicketViewProjector viewProjector, TicketSearchIndex searchIndex) {
         this.repo = repo;
+        this.idCache = idCache;
+        this.ticketVersions = ticketVersions;
+        this.viewProjector = viewProjector;
+        this.searchIndex = searchIndex;
     }
 
     public Customer create(Customer c) {
@@ -27,15 +37,27 @@ public class CustomerService {
         return repo.findById(id).orElseThrow(() -> new RuntimeException("Customer not found: " + id));
     }
 
+    @Transactional
     public Customer update(Long id, Customer input) {
         Customer existing = findById(id);
+        String previousEmail = existing.getEmail();
         existing.setFullName(input.getFullName());
         existing.setEmail(input.getEmail());
         existing.setActive(input.getActive());
-        return repo.save(existing);
+        Customer saved = repo.save(existing);
+        // only once committed: evicting earlier lets a concurrent resolve re-cache the old row
+        AfterCommit.run(() -> idCache.evict(previousEmail));
+        // requester name/email are part of every ticket response
+        ticketVersions.changedAll();
+        viewProjector.requesterChanged(saved.getId(), saved.getFullName(), saved.getEmail());
+        searchIndex.requesterChanged(saved.getId());
+        return saved;
     }
 
+    @Transactional
     public void delete(Long id) {
         repo.deleteById(id);
+        AfterCommit.run(() -> idCache.evictId(id));
+        ticketVersions.changedAll();
     }
 }
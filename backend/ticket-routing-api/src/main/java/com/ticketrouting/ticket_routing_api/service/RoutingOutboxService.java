@@ -0,0 +1,91 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.model.RoutingOutbox;
+import com.ticketrouting.ticket_routing_api.model.RoutingOutboxStatus;
+import com.ticketrouting.ticket_routing_api.repository.RoutingOutboxRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class RoutingOutboxService {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final RoutingOutboxRepository repo;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final int maxAttempts;
+
+    public RoutingOutboxService(
+            RoutingOutboxRepository repo,
+            @Value("${ai.routing.outbox.lease-ms:60000}") long leaseMs,
+            @Value("${ai.routing.outbox.backoff-ms:2000}") long backoffMs,
+            @Value("${ai.routing.outbox.max-attempts:10}") int maxAttempts
+    ) {
+        this.repo = repo;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.baseBackoff = Duration.ofMillis(backoffMs);
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Claims up to {@code limit} due rows. A claimed row stays PENDING but is pushed
+     * {@code lease} into the future, so if this process dies the row becomes due again.
+     */
+    @Transactional
+    public List<RoutingOutbox> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RoutingOutbox> rows = repo.lockDue(now, limit);
+        for (RoutingOutbox row : rows) {
+            row.setAttempts(row.getAttempts() + 1);
+            row.setNextAttemptAt(now.plus(lease));
+        }
+        return rows;
+    }
+
+    @Transactional
+    public void markDone(Long id) {
+        repo.updateStatus(id, RoutingOutboxStatus.DONE, LocalDateTime.now());
+    }
+
+    // Exponential backoff per attempt; gives up (FAILED) after maxAttempts
+    @Transactional
+    public void markFailed(RoutingOutbox row, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        int attempts = row.getAttempts();
+        String message = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+
+        if (attempts >= maxAttempts) {
+            repo.reschedule(row.getId(), RoutingOutboxStatus.FAILED, now, message, now);
+            return;
+        }
+
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+        repo.reschedule(row.getId(), RoutingOutboxStatus.PENDING, now.plus(backoff), message, now);
+    }
+
+    // The call was never made: give the claimed attempt back and retry after the base backoff
+    @Transactional
+    public void defer(RoutingOutbox row) {
+        LocalDateTime now = LocalDateTime.now();
+        repo.defer(row.getId(), now.plus(baseBackoff), now);
+    }
+
+    // One chunk of DONE rows last touched before the cutoff; callers loop until it returns < limit
+    @Transactional
+    public int purgeDone(LocalDateTime before, int limit) {
+        return repo.deleteDone(before, limit);
+    }
+
+    public long countPending() {
+        return repo.countByStatus(RoutingOutboxStatus.PENDING);
+    }
+}
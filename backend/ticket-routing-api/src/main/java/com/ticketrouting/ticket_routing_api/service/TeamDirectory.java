@@ -0,0 +1,114 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.dto.TeamDirectoryStats;
+import com.ticketrouting.ticket_routing_api.model.Team;
+import com.ticketrouting.ticket_routing_api.repository.TeamRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Name -> Team lookup served from an immutable snapshot.
+// Readers never lock; TeamService swaps in a fresh snapshot after every write.
+@Component
+public class TeamDirectory {
+
+    private record Snapshot(Map<String, Team> byName, Map<Long, Team> byId, int teams, int aliases,
+                            LocalDateTime loadedAt) {}
+
+    private final TeamRepository teamRepo;
+    private final String aliasConfig;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+
+    public TeamDirectory(
+            TeamRepository teamRepo,
+            // "alias=Team Name,other alias=Other Team" for names the AI service uses that differ from ours
+            @Value("${teams.directory.aliases:}") String aliasConfig
+    ) {
+        this.teamRepo = teamRepo;
+        this.aliasConfig = aliasConfig;
+    }
+
+    // "Platform_Team", " platform-team " and "PLATFORM TEAM" share a key
+    public static String normalize(String name) {
+        if (name == null) return "";
+        return name.toLowerCase(Locale.ROOT)
+                .replaceAll("[_\\-]+", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    // Serialized: a reload that read findAll() earlier can never publish after a newer one
+    // and bring back a renamed or deleted team. Readers still never lock.
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        List<Team> teams = teamRepo.findAll();
+
+        Map<String, Team> byName = new HashMap<>();
+        Map<Long, Team> byId = new HashMap<>();
+        for (Team t : teams) {
+            byName.put(normalize(t.getName()), t);
+            byId.put(t.getId(), t);
+        }
+
+        int aliases = 0;
+        for (String pair : aliasConfig.split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            Team target = byName.get(normalize(pair.substring(eq + 1)));
+            if (target == null) continue;
+            byName.putIfAbsent(normalize(pair.substring(0, eq)), target);
+            aliases++;
+        }
+
+        snapshot.set(new Snapshot(Map.copyOf(byName), Map.copyOf(byId), teams.size(), aliases, LocalDateTime.now()));
+        reloads.incrementAndGet();
+    }
+
+    public Optional<Team> findByName(String name) {
+        Team team = current().byName().get(normalize(name));
+        if (team == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(team);
+    }
+
+    public Optional<Team> findById(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public TeamDirectoryStats stats() {
+        Snapshot s = snapshot.get();
+        return new TeamDirectoryStats(
+                s == null ? 0 : s.teams(),
+                s == null ? 0 : s.aliases(),
+                hits.get(), misses.get(), reloads.get(),
+                s == null ? null : s.loadedAt()
+        );
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot.get();
+        if (s == null) {
+            reload();
+            s = snapshot.get();
+        }
+        return s;
+    }
+}
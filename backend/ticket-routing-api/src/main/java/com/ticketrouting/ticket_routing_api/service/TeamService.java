@@ -10,13 +10,22 @@ import java.util.List;
 public class TeamService {
 
     private final TeamRepository repo;
+    private final TeamDirectory directory;
+    private final TicketVersions ticketVersions;
+    private final TicketViewProjector viewProjector;
 
-    public TeamService(TeamRepository repo) {
+    public TeamService(TeamRepository repo, TeamDirectory directory, TicketVersions ticketVersions,
+                       TicketViewProjector viewProjector) {
         this.repo = repo;
+        this.directory = directory;
+        this.ticketVersions = ticketVersions;
+        this.viewProjector = viewProjector;
     }
 
     public Team create(Team t) {
-        return repo.save(t);
+        Team saved = repo.save(t);
+        directory.reload();
+        return saved;
     }
 
     public List<Team> findAll() {
@@ -33,11 +42,18 @@ public class TeamService {
         existing.setName(input.getName());
         existing.setDescription(input.getDescription());
         existing.setActive(input.getActive());
-        return repo.save(existing);
+        Team saved = repo.save(existing);
+        directory.reload();
+        // assignedTeamName is part of every ticket response
+        ticketVersions.changedAll();
+        viewProjector.teamRenamed(saved.getId(), saved.getName());
+        return saved;
     }
 
     public void delete(Long id) {
         if (!repo.existsById(id)) throw new RuntimeException("Team not found: " + id);
         repo.deleteById(id);
+        directory.reload();
+        ticketVersions.changedAll();
     }
 }
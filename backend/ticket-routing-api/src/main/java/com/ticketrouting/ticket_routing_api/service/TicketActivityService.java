@@ -1,12 +1,15 @@
 package com.ticketrouting.ticket_routing_api.service;
 
 import com.ticketrouting.ticket_routing_api.dto.TicketActivityResponse;
+import com.ticketrouting.ticket_routing_api.event.LocalRoutingEngine;
+import com.ticketrouting.ticket_routing_api.event.TicketChangedEvent;
 import com.ticketrouting.ticket_routing_api.model.Team;
 import com.ticketrouting.ticket_routing_api.model.Ticket;
 import com.ticketrouting.ticket_routing_api.model.TicketActivity;
-import com.ticketrouting.ticket_routing_api.repository.TeamRepository;
 import com.ticketrouting.ticket_routing_api.repository.TicketActivityRepository;
 import com.ticketrouting.ticket_routing_api.repository.TicketRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -17,33 +20,53 @@ public class TicketActivityService {
 
     private final TicketRepository ticketRepo;
     private final TicketActivityRepository activityRepo;
-    private final TeamRepository teamRepo;
+    private final TeamDirectory teamDirectory;
+    private final LocalRoutingEngine localRoutingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketVersions versions;
+    private final TicketAggregates aggregates;
+    private final TicketViewProjector viewProjector;
 
     public TicketActivityService(
             TicketRepository ticketRepo,
             TicketActivityRepository activityRepo,
-            TeamRepository teamRepo
+            TeamDirectory teamDirectory,
+            LocalRoutingEngine localRoutingEngine,
+            ApplicationEventPublisher eventPublisher,
+            TicketVersions versions,
+            TicketAggregates aggregates,
+            TicketViewProjector viewProjector
     ) {
         this.ticketRepo = ticketRepo;
         this.activityRepo = activityRepo;
-        this.teamRepo = teamRepo;
+        this.teamDirectory = teamDirectory;
+        this.localRoutingEngine = localRoutingEngine;
+        this.eventPublisher = eventPublisher;
+        this.versions = versions;
+        this.aggregates = aggregates;
+        this.viewProjector = viewProjector;
     }
 
     public List<TicketActivity> listByTicket(Long ticketId) {
         return activityRepo.findByTicketIdOrderByCreatedAtAsc(ticketId);
     }
 
+    // One transaction: the reassignment and its activity row commit together, and nothing
+    // in memory (model, counters, stream) sees a reassignment that rolled back
+    @Transactional
     public TicketActivity recordReassignment(Long ticketId, TicketActivity input) {
 
         Ticket ticket = ticketRepo.findById(ticketId)
                 .orElseThrow(() -> new RuntimeException("Ticket not found"));
 
         // ✅ Lookup team by name
-        Team newTeam = teamRepo.findByNameIgnoreCase(input.getHumanAssignedTeam())
+        Team newTeam = teamDirectory.findByName(input.getHumanAssignedTeam())
                 .orElseThrow(() ->
                         new RuntimeException("Team not found: " + input.getHumanAssignedTeam())
                 );
 
+        TicketAggregates.Slot before = TicketAggregates.Slot.of(ticket);
+
         // ✅ Update ticket FK (this WILL update DB)
         ticket.setAssignedTeam(newTeam);
         ticketRepo.save(ticket);
@@ -57,7 +80,19 @@ public class TicketActivityService {
         activity.setTeamReview(input.getTeamReview());
         activity.setCreatedAt(LocalDateTime.now());
 
-        return activityRepo.save(activity);
+        TicketActivity saved = activityRepo.save(activity);
+
+        // ✅ Human correction = labeled example for the in-JVM router, once it has committed
+        String subject = ticket.getSubject();
+        String label = newTeam.getName();
+        AfterCommit.run(() -> localRoutingEngine.learn(subject, label));
+
+        versions.changed(ticketId);
+        aggregates.moved(before, before.withTeam(newTeam.getId()));
+        viewProjector.changed(ticketId);
+        eventPublisher.publishEvent(TicketChangedEvent.reassigned(ticketId, newTeam.getName()));
+
+        return saved;
     }
 
 }
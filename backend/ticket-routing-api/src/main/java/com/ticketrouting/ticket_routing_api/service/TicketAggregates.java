@@ -0,0 +1,324 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.dto.TicketAggregatesResponse;
+import com.ticketrouting.ticket_routing_api.model.Team;
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.model.TicketPriority;
+import com.ticketrouting.ticket_routing_api.model.TicketStatus;
+import com.ticketrouting.ticket_routing_api.repository.TicketRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketSlotCountRow;
+import com.ticketrouting.ticket_routing_api.repository.TicketSlotRow;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Dashboard counts kept in memory: one LongAdder per (team, status, priority, routed) slot.
+// Writers move a ticket between slots after commit; reads cost one pass over the slots
+// (teams x 3 x 3 x 2), whatever the ticket volume.
+// Writers read a ticket's previous slot without a lock, so a race can leave a counter off;
+// a periodic GROUP BY against the DB puts every counter back.
+// A writer holds the commit gate (shared) from just before its commit until its delta is applied;
+// reconciliation takes it exclusively to start its snapshot and to swap. So a delta is journaled
+// exactly when its commit is missing from the snapshot, and none lands between replay and swap.
+// A writer's flush can wait on a row lock held by a writer queued behind the gate, so
+// reconciliation only waits GATE_WAIT_MS for it and otherwise skips the pass.
+@Component
+public class TicketAggregates {
+
+    private static final String UNASSIGNED = "Unassigned";
+    private static final long GATE_WAIT_MS = 200;
+
+    public record Slot(Long teamId, TicketStatus status, TicketPriority priority, boolean routed) {
+
+        public static Slot of(Ticket t) {
+            return new Slot(
+                    t.getAssignedTeam() == null ? null : t.getAssignedTeam().getId(),
+                    t.getStatus(),
+                    t.getPriority(),
+                    t.getTicketDetail() != null && t.getTicketDetail().getAiConfidence() != null
+            );
+        }
+
+        public static Slot of(TicketSlotRow row) {
+            return new Slot(row.getTeamId(), TicketStatus.valueOf(row.getStatus()),
+                    TicketPriority.valueOf(row.getPriority()), Boolean.TRUE.equals(row.getRouted()));
+        }
+
+        public Slot withTeam(Long teamId) {
+            return new Slot(teamId, status, priority, routed);
+        }
+
+        public Slot withRouted(boolean routed) {
+            return new Slot(teamId, status, priority, routed);
+        }
+
+        boolean open() {
+            return status != TicketStatus.RESOLVED;
+        }
+    }
+
+    private static final class Counts {
+
+        private final ConcurrentHashMap<Slot, LongAdder> bySlot = new ConcurrentHashMap<>();
+
+        void add(Slot slot, long n) {
+            LongAdder adder = bySlot.get(slot);
+            if (adder == null) {
+                adder = bySlot.computeIfAbsent(slot, k -> new LongAdder());
+            }
+            adder.add(n);
+        }
+
+        long get(Slot slot) {
+            LongAdder adder = bySlot.get(slot);
+            return adder == null ? 0 : adder.sum();
+        }
+    }
+
+    private final TicketRepository ticketRepo;
+    private final TeamDirectory teamDirectory;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate snapshotTx;
+    private final long reconcileMs;
+
+    private volatile Counts counts = new Counts();
+    // while a reconciliation query runs, deltas also land here and are replayed onto its result
+    private volatile Counts journal;
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    private final Object reconcileLock = new Object();
+    private final AtomicLong reconciliations = new AtomicLong();
+    private volatile long lastDrift;
+    private volatile LocalDateTime lastReconciledAt;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ticket-aggregates-reconcile");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TicketAggregates(
+            TicketRepository ticketRepo,
+            TeamDirectory teamDirectory,
+            JdbcTemplate jdbc,
+            PlatformTransactionManager transactionManager,
+            @Value("${tickets.aggregates.reconcile-ms:300000}") long reconcileMs
+    ) {
+        this.ticketRepo = ticketRepo;
+        this.teamDirectory = teamDirectory;
+        this.jdbc = jdbc;
+        // the snapshot is fixed by the first statement, so the GROUP BY can run after the gate opens
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTx.setReadOnly(true);
+        this.reconcileMs = reconcileMs;
+    }
+
+    // first reconciliation is the initial load
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reconcile();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                System.out.println(">>> [Aggregates] Reconciliation failed: " + e.getMessage());
+            }
+        }, reconcileMs, reconcileMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public void created(Slot after) {
+        afterCommit(() -> add(after, 1));
+    }
+
+    public void moved(Slot before, Slot after) {
+        if (before.equals(after)) {
+            return;
+        }
+        afterCommit(() -> {
+            add(before, -1);
+            add(after, 1);
+        });
+    }
+
+    public void deleted(Slot before) {
+        afterCommit(() -> add(before, -1));
+    }
+
+    public TicketAggregatesResponse snapshot() {
+        Map<String, Map<String, Long>> open = new TreeMap<>();
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (TicketStatus s : TicketStatus.values()) {
+            byStatus.put(s.name(), 0L);
+        }
+        long awaitingAi = 0;
+        long total = 0;
+
+        for (Map.Entry<Slot, LongAdder> e : counts.bySlot.entrySet()) {
+            Slot slot = e.getKey();
+            long n = e.getValue().sum();
+            if (n == 0) {
+                continue;
+            }
+            total += n;
+            byStatus.merge(slot.status().name(), n, Long::sum);
+            if (!slot.open()) {
+                continue;
+            }
+            open.computeIfAbsent(teamName(slot.teamId()), k -> new LinkedHashMap<>())
+                    .merge(slot.priority().name(), n, Long::sum);
+            if (slot.teamId() == null && !slot.routed()) {
+                awaitingAi += n;
+            }
+        }
+
+        return new TicketAggregatesResponse(open, byStatus, awaitingAi, total,
+                lastReconciledAt, lastDrift, reconciliations.get());
+    }
+
+    // Replaces every counter with a DB GROUP BY. Deltas of transactions that commit after the
+    // query's snapshot are journaled and replayed on top; earlier commits are already counted.
+    public TicketAggregatesResponse reconcile() {
+        synchronized (reconcileLock) {
+            Counts journaled = new Counts();
+            Counts fresh = new Counts();
+            try {
+                List<TicketSlotCountRow> rows = snapshotTx.execute(status -> {
+                    if (!closeGate()) {
+                        return null;
+                    }
+                    try {
+                        jdbc.queryForObject("SELECT 1", Integer.class);
+                        journal = journaled;
+                    } finally {
+                        commitGate.writeLock().unlock();
+                    }
+                    return ticketRepo.countBySlot();
+                });
+                if (rows == null) {
+                    System.out.println(">>> [Aggregates] Commits kept the gate busy, reconciliation skipped");
+                    return snapshot();
+                }
+                for (TicketSlotCountRow row : rows) {
+                    fresh.add(Slot.of(row), row.getTotal());
+                }
+            } catch (RuntimeException e) {
+                journal = null;
+                throw e;
+            }
+
+            if (!closeGate()) {
+                // counts never stopped taking deltas: dropping this pass loses nothing
+                journal = null;
+                System.out.println(">>> [Aggregates] Commits kept the gate busy, reconciliation skipped");
+                return snapshot();
+            }
+            Counts previous;
+            try {
+                journaled.bySlot.forEach((slot, n) -> fresh.add(slot, n.sum()));
+                journal = null;
+                previous = counts;
+                counts = fresh;
+            } finally {
+                commitGate.writeLock().unlock();
+            }
+
+            Set<Slot> slots = new HashSet<>(previous.bySlot.keySet());
+            slots.addAll(fresh.bySlot.keySet());
+            long drift = 0;
+            for (Slot slot : slots) {
+                drift += Math.abs(fresh.get(slot) - previous.get(slot));
+            }
+            lastDrift = drift;
+            lastReconciledAt = LocalDateTime.now();
+            reconciliations.incrementAndGet();
+            if (drift != 0) {
+                System.out.println(">>> [Aggregates] Reconciled, corrected drift=" + drift);
+            }
+        }
+        return snapshot();
+    }
+
+    private boolean closeGate() {
+        try {
+            return commitGate.writeLock().tryLock(GATE_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // AfterCommit, plus the commit gate held from before the commit until the delta is applied
+    private void afterCommit(Runnable delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delta.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gated;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitGate.readLock().lock();
+                gated = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                delta.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (gated) {
+                    gated = false;
+                    commitGate.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void add(Slot slot, long n) {
+        counts.add(slot, n);
+        Counts j = journal;
+        if (j != null) {
+            j.add(slot, n);
+        }
+    }
+
+    private String teamName(Long teamId) {
+        if (teamId == null) {
+            return UNASSIGNED;
+        }
+        return teamDirectory.findById(teamId).map(Team::getName).orElse("Team " + teamId);
+    }
+}
@@ -0,0 +1,211 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.dto.CreateTicketRequest;
+import com.ticketrouting.ticket_routing_api.dto.TicketBatchItemResult;
+import com.ticketrouting.ticket_routing_api.dto.TicketBatchResponse;
+import com.ticketrouting.ticket_routing_api.event.RoutingMetrics;
+import com.ticketrouting.ticket_routing_api.event.TicketCreatedEvent;
+import com.ticketrouting.ticket_routing_api.model.*;
+import com.ticketrouting.ticket_routing_api.repository.RoutingOutboxRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketDetailRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk ingestion for integrations: validates every item, then writes valid ones in
+// chunked transactions whose ticket/detail/outbox inserts go out as JDBC batches.
+@Service
+public class TicketBatchService {
+
+    private final TicketRepository ticketRepo;
+    private final TicketDetailRepository ticketDetailRepository;
+    private final RoutingOutboxRepository routingOutboxRepository;
+    private final CustomerIdCache customerIdCache;
+    private final TicketNumberGenerator ticketNumberGenerator;
+    private final TicketSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate tx;
+    private final int maxItems;
+    private final int chunkSize;
+    private final TicketVersions versions;
+    private final TicketAggregates aggregates;
+    private final TicketViewProjector viewProjector;
+    private final RoutingMetrics routingMetrics;
+    private final int maxItemResults;
+
+    public TicketBatchService(
+            TicketRepository ticketRepo,
+            TicketDetailRepository ticketDetailRepository,
+            RoutingOutboxRepository routingOutboxRepository,
+            CustomerIdCache customerIdCache,
+            TicketNumberGenerator ticketNumberGenerator,
+            TicketSearchIndex searchIndex,
+            ApplicationEventPublisher eventPublisher,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${tickets.batch.max-items:5000}") int maxItems,
+            @Value("${tickets.batch.chunk-size:500}") int chunkSize,
+            TicketVersions versions,
+            TicketAggregates aggregates,
+            TicketViewProjector viewProjector,
+            RoutingMetrics routingMetrics,
+            @Value("${tickets.batch.max-item-results:1000}") int maxItemResults
+    ) {
+        this.ticketRepo = ticketRepo;
+        this.ticketDetailRepository = ticketDetailRepository;
+        this.routingOutboxRepository = routingOutboxRepository;
+        this.customerIdCache = customerIdCache;
+        this.ticketNumberGenerator = ticketNumberGenerator;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+        this.versions = versions;
+        this.aggregates = aggregates;
+        this.viewProjector = viewProjector;
+        this.routingMetrics = routingMetrics;
+        this.maxItemResults = maxItemResults;
+    }
+
+    public TicketBatchResponse createBatch(List<CreateTicketRequest> requests) {
+        if (requests.size() > maxItems) {
+            throw new TicketBatchTooLargeException(requests.size(), maxItems);
+        }
+        long start = System.currentTimeMillis();
+
+        // only items that were not created are reported, and at most maxItemResults of them
+        List<TicketBatchItemResult> items = new ArrayList<>();
+        int created = 0, rejected = 0, failed = 0;
+
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error == null) {
+                valid.add(i);
+            } else {
+                rejected++;
+                report(items, TicketBatchItemResult.rejected(i, error));
+            }
+        }
+
+        // a failing chunk only takes its own items down
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            try {
+                List<Ticket> saved = commitChunk(requests, chunk);
+                List<Long> ids = saved.stream().map(Ticket::getId).toList();
+                versions.changed(ids);
+                viewProjector.changed(ids);
+                created += saved.size();
+            } catch (RuntimeException e) {
+                System.out.println(">>> [TicketBatch] Chunk of " + chunk.size() + " failed: " + e.getMessage());
+                failed += chunk.size();
+                for (int idx : chunk) {
+                    report(items, TicketBatchItemResult.failed(idx, e.getMessage()));
+                }
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        System.out.println(">>> [TicketBatch] " + created + " created, " + rejected + " rejected, "
+                + failed + " failed in " + elapsed + " ms");
+
+        return new TicketBatchResponse(created, rejected, failed, elapsed, items,
+                rejected + failed > items.size());
+    }
+
+    private void report(List<TicketBatchItemResult> items, TicketBatchItemResult item) {
+        if (items.size() < maxItemResults) {
+            items.add(item);
+        }
+    }
+
+    // Same stale-requester retry as TicketService.create: an FK violation rolls the whole chunk back,
+    // so forget the chunk's cached requesters and write it one more time
+    private List<Ticket> commitChunk(List<CreateTicketRequest> requests, List<Integer> chunk) {
+        try {
+            return tx.execute(status -> writeChunk(requests, chunk));
+        } catch (DataIntegrityViolationException e) {
+            boolean cached = false;
+            for (int idx : chunk) {
+                cached |= customerIdCache.evict(requests.get(idx).getRequesterEmail());
+            }
+            if (!cached) throw e;
+            return tx.execute(status -> writeChunk(requests, chunk));
+        }
+    }
+
+    private List<Ticket> writeChunk(List<CreateTicketRequest> requests, List<Integer> chunk) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        // one upsert per distinct requester, not per ticket
+        Map<String, Customer> customers = new HashMap<>();
+
+        List<Ticket> tickets = new ArrayList<>(chunk.size());
+        for (int idx : chunk) {
+            CreateTicketRequest req = requests.get(idx);
+            Customer customer = customers.computeIfAbsent(
+                    Customer.normalizeEmail(req.getRequesterEmail()),
+                    k -> customerIdCache.resolve(req.getRequesterEmail(), req.getRequesterName()));
+
+            Ticket t = new Ticket();
+            t.setSubject(req.getSubject());
+            t.setPriority(TicketPriority.LOW);
+            t.setTicketNumber(ticketNumberGenerator.next());
+            t.setRequester(customer);
+            t.setCreatedAt(now);
+            t.setUpdatedAt(now);
+            tickets.add(t);
+        }
+        List<Ticket> saved = ticketRepo.saveAll(tickets);
+
+        List<TicketDetail> details = new ArrayList<>(saved.size());
+        List<RoutingOutbox> outbox = new ArrayList<>(saved.size());
+        for (Ticket t : saved) {
+            TicketDetail detail = new TicketDetail();
+            detail.setTicket(t);
+            detail.setCreatedAt(now);
+            details.add(detail);
+            outbox.add(new RoutingOutbox(t.getId(), t.getSubject()));
+        }
+        ticketDetailRepository.saveAll(details);
+        routingOutboxRepository.saveAll(outbox);
+        saved.forEach(t -> aggregates.created(TicketAggregates.Slot.of(t)));
+        saved.forEach(searchIndex::changed);
+
+        // same per-ticket event and metric as a single create; the listener's wake-ups coalesce
+        for (Ticket t : saved) {
+            eventPublisher.publishEvent(new TicketCreatedEvent(t.getId(), t.getSubject()));
+            routingMetrics.recordCreateToPublish(System.nanoTime() - start);
+        }
+        return saved;
+    }
+
+    private String validate(CreateTicketRequest req) {
+        if (req == null) return "null item";
+        Set<ConstraintViolation<CreateTicketRequest>> violations = validator.validate(req);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,9 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+// POST /api/tickets/batch carried more items than tickets.batch.max-items; nothing was written
+public class TicketBatchTooLargeException extends RuntimeException {
+
+    public TicketBatchTooLargeException(int items, int maxItems) {
+        super("Batch too large: " + items + " > " + maxItems);
+    }
+}
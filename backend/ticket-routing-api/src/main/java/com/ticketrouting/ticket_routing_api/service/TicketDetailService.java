@@ -4,17 +4,28 @@ import com.ticketrouting.ticket_routing_api.model.Ticket;
 import com.ticketrouting.ticket_routing_api.model.TicketDetail;
 import com.ticketrouting.ticket_routing_api.repository.TicketDetailRepository;
 import com.ticketrouting.ticket_routing_api.repository.TicketRepository;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 public class TicketDetailService {
 
     private final TicketDetailRepository detailRepo;
     private final TicketRepository ticketRepo;
+    private final TicketVersions versions;
+    private final TicketAggregates aggregates;
+    private final TicketViewProjector viewProjector;
 
-    public TicketDetailService(TicketDetailRepository detailRepo, TicketRepository ticketRepo) {
+    public TicketDetailService(TicketDetailRepository detailRepo, TicketRepository ticketRepo,
+                               TicketVersions versions, TicketAggregates aggregates,
+                               TicketViewProjector viewProjector) {
         this.detailRepo = detailRepo;
         this.ticketRepo = ticketRepo;
+        this.versions = versions;
+        this.aggregates = aggregates;
+        this.viewProjector = viewProjector;
     }
 
     public TicketDetail getByTicketId(Long ticketId) {
@@ -22,11 +33,13 @@ public class TicketDetailService {
                 .orElseThrow(() -> new RuntimeException("TicketDetail not found for ticket: " + ticketId));
     }
 
+    @Transactional
     public TicketDetail upsert(Long ticketId, TicketDetail input) {
         Ticket ticket = ticketRepo.findById(ticketId)
                 .orElseThrow(() -> new RuntimeException("Ticket not found: " + ticketId));
 
         TicketDetail detail = detailRepo.findByTicketId(ticketId).orElse(null);
+        TicketAggregates.Slot before = TicketAggregates.Slot.of(ticket);
 
         if (detail == null) {
             detail = new TicketDetail();
@@ -37,11 +50,23 @@ public class TicketDetailService {
         detail.setAiSuggestedTeam(input.getAiSuggestedTeam());
         detail.setAiConfidence(input.getAiConfidence());
 
-        return detailRepo.save(detail);
+        TicketDetail saved = detailRepo.save(detail);
+        ticketRepo.touch(ticketId, LocalDateTime.now());
+        versions.changed(ticketId);
+        // a stored AI confidence is what "routed" means on the dashboard
+        aggregates.moved(before, before.withRouted(saved.getAiConfidence() != null));
+        viewProjector.changed(ticketId);
+        return saved;
     }
 
+    @Transactional
     public void deleteByTicketId(Long ticketId) {
         TicketDetail detail = getByTicketId(ticketId);
+        TicketAggregates.Slot before = TicketAggregates.Slot.of(detail.getTicket());
         detailRepo.delete(detail);
+        ticketRepo.touch(ticketId, LocalDateTime.now());
+        versions.changed(ticketId);
+        aggregates.moved(before, before.withRouted(false));
+        viewProjector.changed(ticketId);
     }
 }
@@ -0,0 +1,167 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Snowflake-style ids: 41 bits of millis since EPOCH | 10 bits node | 12 bits sequence.
+// Lock-free (one CAS per id), unique across nodes as long as node ids differ,
+// roughly time-ordered, and up to 4096 ids per millisecond per node.
+// Node ids: tickets.number.node-id when set, otherwise leased from ticket_number_node so no
+// two live instances ever share one. The lease is renewed on a timer; a dead instance's id
+// becomes free again once its heartbeat is older than the lease.
+@Component
+public class TicketNumberGenerator {
+
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int LEASE_ATTEMPTS = 5;
+
+    // claims the lowest id that is free or whose holder stopped heartbeating; empty when another
+    // instance won the same id in between (the DO UPDATE guard fails), so the caller retries
+    private static final String CLAIM_SQL =
+            "INSERT INTO ticket_number_node (node_id, owner, heartbeat_at) " +
+            "SELECT n, ?, now() FROM generate_series(0, " + MAX_NODE + ") n " +
+            "WHERE NOT EXISTS (SELECT 1 FROM ticket_number_node t " +
+            "WHERE t.node_id = n AND t.heartbeat_at > now() - make_interval(secs => ?)) " +
+            "ORDER BY n LIMIT 1 " +
+            "ON CONFLICT (node_id) DO UPDATE SET owner = EXCLUDED.owner, heartbeat_at = EXCLUDED.heartbeat_at " +
+            "WHERE ticket_number_node.heartbeat_at <= now() - make_interval(secs => ?) " +
+            "RETURNING node_id";
+
+    private final JdbcTemplate jdbc;
+    private final long leaseSeconds;
+    private final String owner;
+    private final boolean leased;
+
+    private volatile long node;
+
+    // (millis - EPOCH) << SEQUENCE_BITS | sequence of the last id handed out
+    private final AtomicLong last = new AtomicLong();
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ticket-number-lease");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // EntityManagerFactory dependency: schema update has created ticket_number_node by now
+    public TicketNumberGenerator(
+            JdbcTemplate jdbc,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${tickets.number.node-id:-1}") long nodeId,
+            @Value("${tickets.number.lease-seconds:60}") long leaseSeconds
+    ) {
+        this.jdbc = jdbc;
+        this.leaseSeconds = leaseSeconds;
+        this.owner = ownerName();
+        this.leased = nodeId < 0;
+
+        if (nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("tickets.number.node-id must be 0.." + MAX_NODE + ": " + nodeId);
+        }
+        this.node = leased ? lease() : nodeId;
+        System.out.println(">>> [TICKET-NUMBER] node id " + node + (leased ? " (leased by " + owner + ")" : ""));
+
+        if (leased) {
+            long every = Math.max(1, leaseSeconds / 3);
+            heartbeat.scheduleWithFixedDelay(this::renew, every, every, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        if (leased) {
+            try {
+                jdbc.update("DELETE FROM ticket_number_node WHERE node_id = ? AND owner = ?", (int) node, owner);
+            } catch (RuntimeException e) {
+                // expires on its own
+            }
+        }
+    }
+
+    public String next() {
+        return "TCK-" + nextId();
+    }
+
+    public long nextId() {
+        return nextId(System.currentTimeMillis() - EPOCH);
+    }
+
+    // now: millis since EPOCH; passed in so tests can step the clock
+    long nextId(long now) {
+        long prev;
+        long next;
+        do {
+            prev = last.get();
+            long prevMillis = prev >>> SEQUENCE_BITS;
+            if (now > prevMillis) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // same millisecond, or the clock stepped back: keep counting from the last state.
+                // Sequence overflow rolls into the next millisecond instead of spinning.
+                next = prev + 1;
+            }
+        } while (!last.compareAndSet(prev, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    // Fails startup rather than fall back to a guessed id
+    private long lease() {
+        for (int attempt = 0; attempt < LEASE_ATTEMPTS; attempt++) {
+            List<Integer> claimed = jdbc.queryForList(CLAIM_SQL, Integer.class, owner, leaseSeconds, leaseSeconds);
+            if (!claimed.isEmpty()) {
+                return claimed.get(0);
+            }
+        }
+        throw new IllegalStateException("No free ticket-number node id; all " + (MAX_NODE + 1)
+                + " are leased. Set tickets.number.node-id explicitly.");
+    }
+
+    // Lease lost (no heartbeat for a whole lease, e.g. a long GC or DB outage): another instance may
+    // hold our id now, so move to a fresh one before issuing more numbers
+    private void renew() {
+        try {
+            int updated = jdbc.update("UPDATE ticket_number_node SET heartbeat_at = now() " +
+                    "WHERE node_id = ? AND owner = ?", (int) node, owner);
+            if (updated == 0) {
+                long previous = node;
+                node = lease();
+                System.out.println(">>> [TICKET-NUMBER] Lease on node id " + previous
+                        + " was lost, now node id " + node);
+            }
+        } catch (RuntimeException e) {
+            System.out.println(">>> [TICKET-NUMBER] Lease renewal failed: " + e.getMessage());
+        }
+    }
+
+    private static String ownerName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "/" + ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+}
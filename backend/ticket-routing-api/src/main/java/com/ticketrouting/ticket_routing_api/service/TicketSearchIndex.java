@@ -0,0 +1,217 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.model.Customer;
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.repository.TicketRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketSearchRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory trigram index over ticketNumber, subject, requester name and email.
+// Reads are lock-free; writes are serialized since they touch many posting sets.
+// Writes land after commit, so a rolled-back change never reaches the index.
+// The index only sees writes made by this JVM, and search treats its answer as complete:
+// off by default, turn on with tickets.search.index.enabled=true only for a single-instance
+// deployment. Disabled, search() returns null and callers use the database predicate.
+@Component
+public class TicketSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final TicketRepository ticketRepo;
+    private final boolean enabled;
+
+    // ticketId -> lower-cased, separator-joined document (used to verify candidates)
+    private final Map<Long, String> docs = new ConcurrentHashMap<>();
+    // packed trigram -> ticket ids containing it
+    private final Map<Long, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public TicketSearchIndex(
+            TicketRepository ticketRepo,
+            @Value("${tickets.search.index.enabled:false}") boolean enabled
+    ) {
+        this.ticketRepo = ticketRepo;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        ready = false;
+        docs.clear();
+        postings.clear();
+
+        long afterId = 0L;
+        List<TicketSearchRow> rows;
+        do {
+            rows = ticketRepo.findSearchRowsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (TicketSearchRow row : rows) {
+                put(row.getId(), row.getTicketNumber(), row.getSubject(),
+                        row.getRequesterName(), row.getRequesterEmail());
+                afterId = row.getId();
+            }
+        } while (rows.size() == REBUILD_PAGE_SIZE);
+
+        ready = true;
+        System.out.println(">>> [SEARCH-INDEX] Rebuilt with " + docs.size() + " tickets");
+    }
+
+    // Standalone index over given rows, no repository (synthetic data for benchmarks)
+    public static TicketSearchIndex of(List<? extends TicketSearchRow> rows) {
+        TicketSearchIndex index = new TicketSearchIndex(null, true);
+        for (TicketSearchRow row : rows) {
+            index.put(row.getId(), row.getTicketNumber(), row.getSubject(),
+                    row.getRequesterName(), row.getRequesterEmail());
+        }
+        index.ready = true;
+        return index;
+    }
+
+    // Fields are read now, inside the transaction; the index changes once it commits
+    public void changed(Ticket t) {
+        if (!enabled) {
+            return;
+        }
+        Long id = t.getId();
+        Customer requester = t.getRequester();
+        String[] fields = {t.getTicketNumber(), t.getSubject(),
+                requester != null ? requester.getFullName() : null,
+                requester != null ? requester.getEmail() : null};
+        AfterCommit.run(() -> put(id, fields));
+    }
+
+    public void removed(Long ticketId) {
+        if (enabled) {
+            AfterCommit.run(() -> remove(ticketId));
+        }
+    }
+
+    // A requester's name or email is in every one of their tickets' documents
+    public void requesterChanged(Long customerId) {
+        if (!enabled) {
+            return;
+        }
+        List<String[]> docs = new ArrayList<>();
+        for (TicketSearchRow row : ticketRepo.findSearchRowsByRequester(customerId)) {
+            docs.add(new String[]{String.valueOf(row.getId()), row.getTicketNumber(), row.getSubject(),
+                    row.getRequesterName(), row.getRequesterEmail()});
+        }
+        AfterCommit.run(() -> {
+            for (String[] d : docs) {
+                put(Long.valueOf(d[0]), d[1], d[2], d[3], d[4]);
+            }
+        });
+    }
+
+    public synchronized void put(Long ticketId, String... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (String f : fields) {
+            if (f != null) {
+                sb.append(f.toLowerCase(Locale.ROOT));
+            }
+            sb.append(FIELD_SEPARATOR);
+        }
+        String doc = sb.toString();
+
+        String previous = docs.put(ticketId, doc);
+        if (previous != null) {
+            for (Long gram : trigrams(previous)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(ticketId);
+                }
+            }
+        }
+        for (Long gram : trigrams(doc)) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(ticketId);
+        }
+    }
+
+    public synchronized void remove(Long ticketId) {
+        String previous = docs.remove(ticketId);
+        if (previous == null) {
+            return;
+        }
+        for (Long gram : trigrams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(ticketId);
+            }
+        }
+    }
+
+    /**
+     * Ticket ids whose indexed fields contain {@code term} (substring, so prefixes too).
+     * Returns null when the index cannot answer: still rebuilding, or the term is
+     * shorter than a trigram. Callers then fall back to the database predicate.
+     */
+    public Set<Long> search(String term) {
+        if (!ready || term == null) {
+            return null;
+        }
+        String needle = term.trim().toLowerCase(Locale.ROOT);
+        if (needle.length() < 3) {
+            return null;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (Long gram : trigrams(needle)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null || ids.isEmpty()) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        // intersect starting from the rarest trigram
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        outer:
+        for (Long id : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    continue outer;
+                }
+            }
+            // trigrams only give candidates; confirm the actual substring
+            String doc = docs.get(id);
+            if (doc != null && doc.contains(needle)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    private static Set<Long> trigrams(String s) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            char a = s.charAt(i), b = s.charAt(i + 1), c = s.charAt(i + 2);
+            if (a == FIELD_SEPARATOR || b == FIELD_SEPARATOR || c == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.add(((long) a << 32) | ((long) b << 16) | c);
+        }
+        return grams;
+    }
+}
@@ -2,61 +2,125 @@ package com.ticketrouting.ticket_routing_api.service;
 
 import com.ticketrouting.ticket_routing_api.dto.AiTeamConfidence;
 import com.ticketrouting.ticket_routing_api.dto.CreateTicketRequest;
-import com.ticketrouting.ticket_routing_api.dto.TicketDetailResponse;
+import com.ticketrouting.ticket_routing_api.dto.InvalidTicketQueryException;
+import com.ticketrouting.ticket_routing_api.dto.TicketChangeCursor;
+import com.ticketrouting.ticket_routing_api.dto.TicketChangesResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketCursor;
+import com.ticketrouting.ticket_routing_api.dto.TicketPageResponse;
 import com.ticketrouting.ticket_routing_api.dto.TicketResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketTombstoneResponse;
+import com.ticketrouting.ticket_routing_api.event.RoutingMetrics;
+import com.ticketrouting.ticket_routing_api.event.TicketChangedEvent;
 import com.ticketrouting.ticket_routing_api.event.TicketCreatedEvent;
 import com.ticketrouting.ticket_routing_api.model.*;
 import com.ticketrouting.ticket_routing_api.repository.*;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class TicketService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    // above this many index hits an IN (...) list costs more than the LIKE scan
+    private static final int MAX_SEARCH_IDS = 1000;
+
     private final TicketRepository ticketRepo;
     private final CustomerRepository customerRepo;
     private final TeamRepository teamRepo;
     private final TicketDetailRepository ticketDetailRepository;
     private final TicketAiTeamConfidenceRepository ticketAiTeamConfidenceRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final TicketSearchIndex searchIndex;
+    private final RoutingOutboxRepository routingOutboxRepository;
+    private final CustomerIdCache customerIdCache;
+    private final TicketNumberGenerator ticketNumberGenerator;
+    private final RoutingMetrics routingMetrics;
+    private final TicketTombstoneRepository tombstoneRepository;
+    private final TicketVersions versions;
+    private final TicketAggregates aggregates;
+    private final TicketViewProjector viewProjector;
+    private final TicketViewRepository viewRepo;
+    private final Duration changesSettle;
+    private final TransactionTemplate tx;
 
     public TicketService(TicketRepository ticketRepo,
                          CustomerRepository customerRepo,
                          TeamRepository teamRepo,
                          TicketDetailRepository ticketDetailRepository, TicketAiTeamConfidenceRepository ticketAiTeamConfidenceRepository,
-                         ApplicationEventPublisher eventPublisher) {
+                         ApplicationEventPublisher eventPublisher,
+                         TicketSearchIndex searchIndex,
+                         RoutingOutboxRepository routingOutboxRepository,
+                         CustomerIdCache customerIdCache,
+                         TicketNumberGenerator ticketNumberGenerator,
+                         RoutingMetrics routingMetrics,
+                         TicketTombstoneRepository tombstoneRepository,
+                         TicketVersions versions,
+                         TicketAggregates aggregates,
+                         TicketViewProjector viewProjector,
+                         TicketViewRepository viewRepo,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${tickets.changes.settle-ms:2000}") long changesSettleMs) {
         this.ticketRepo = ticketRepo;
         this.customerRepo = customerRepo;
         this.teamRepo = teamRepo;
         this.ticketDetailRepository = ticketDetailRepository;
         this.ticketAiTeamConfidenceRepository = ticketAiTeamConfidenceRepository;
         this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.routingOutboxRepository = routingOutboxRepository;
+        this.customerIdCache = customerIdCache;
+        this.ticketNumberGenerator = ticketNumberGenerator;
+        this.routingMetrics = routingMetrics;
+        this.tombstoneRepository = tombstoneRepository;
+        this.versions = versions;
+        this.aggregates = aggregates;
+        this.viewProjector = viewProjector;
+        this.viewRepo = viewRepo;
+        this.changesSettle = Duration.ofMillis(changesSettleMs);
+        this.tx = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
     public Ticket create(CreateTicketRequest req) {
-        Customer customer = customerRepo.findByEmailIgnoreCase(req.getRequesterEmail())
-                .orElseGet(() -> {
-                    Customer c = new Customer();
-                    c.setEmail(req.getRequesterEmail());
-                    c.setFullName(req.getRequesterName() != null ? req.getRequesterName() : "Unknown");
-                    c.setActive(true);
-                    c.setCreatedAt(java.time.LocalDateTime.now());
-                    return customerRepo.save(c);
-                });
+        try {
+            return tx.execute(status -> insert(req));
+        } catch (DataIntegrityViolationException e) {
+            // the cached requester id may belong to a customer deleted on another instance (the cache
+            // is per-JVM): treat it as a miss and write once more with a freshly upserted requester
+            if (!customerIdCache.evict(req.getRequesterEmail())) throw e;
+            return tx.execute(status -> insert(req));
+        }
+    }
+
+    private Ticket insert(CreateTicketRequest req) {
+        long start = System.nanoTime();
+
+        // upsert (or cache hit) by normalized email; the ticket only needs the FK
+        Customer customer = customerIdCache.resolve(req.getRequesterEmail(), req.getRequesterName());
 
         Ticket t = new Ticket();
         t.setSubject(req.getSubject());
-        System.out.println(">>> [TicketService] Creating ticket for subject: " + t.getSubject());
 
         t.setPriority(TicketPriority.LOW);
         t.setAssignedTeam(null);
-        t.setTicketNumber(generateTicketNumber());
+        t.setTicketNumber(ticketNumberGenerator.next());
         t.setRequester(customer);
 
         java.time.LocalDateTime now = java.time.LocalDateTime.now();
@@ -70,57 +134,75 @@ public class TicketService {
         detail.setCreatedAt(now);
         ticketDetailRepository.save(detail);
 
+        // same transaction as the ticket: routing survives restarts and listener failures
+        routingOutboxRepository.save(new RoutingOutbox(saved.getId(), saved.getSubject()));
+
+        searchIndex.changed(saved);
+        versions.changed(saved.getId());
+        aggregates.created(TicketAggregates.Slot.of(saved));
+        viewProjector.changed(saved.getId());
+
         eventPublisher.publishEvent(new TicketCreatedEvent(saved.getId(), saved.getSubject()));
+        routingMetrics.recordCreateToPublish(System.nanoTime() - start);
 
         return saved;
     }
 
-    private String generateTicketNumber() {
-        return "TCK-" + System.currentTimeMillis();
+    public List<Ticket> list(String status, Long teamId, String teamName, String priority, String search) {
+        return ticketRepo.findAll(
+                filters(status, teamId, teamName, priority, search),
+                Sort.by(Sort.Direction.DESC, "createdAt", "id")
+        );
     }
 
-    public List<Ticket> list(String status, Long teamId, String teamName, String priority, String search) {
-        System.out.println("ANAA"+teamName);
-        List<Ticket> tickets = ticketRepo.findAll();
+    private Specification<Ticket> filters(String status, Long teamId, String teamName, String priority, String search) {
+        Specification<Ticket> spec = Specification.where(null);
 
         if (status != null && !status.isBlank()) {
-            TicketStatus st = TicketStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
-            tickets = tickets.stream().filter(t -> t.getStatus() == st).collect(Collectors.toList());
+            TicketStatus st = parseStatus(status);
+            spec = spec.and(TicketSpecifications.hasStatus(st));
         }
 
         if (teamId != null) {
-            tickets = tickets.stream()
-                    .filter(t -> t.getAssignedTeam() != null && teamId.equals(t.getAssignedTeam().getId()))
-                    .collect(Collectors.toList());
+            spec = spec.and(TicketSpecifications.assignedToTeamId(teamId));
         }
 
         if (teamName != null && !teamName.isBlank() && !"All".equalsIgnoreCase(teamName)) {
-            String tn = teamName.trim().toLowerCase(Locale.ROOT);
-            tickets = tickets.stream()
-                    .filter(t -> t.getAssignedTeam() != null
-                            && t.getAssignedTeam().getName() != null
-                            && t.getAssignedTeam().getName().trim().toLowerCase(Locale.ROOT).equals(tn))
-                    .collect(Collectors.toList());
+            spec = spec.and(TicketSpecifications.assignedToTeamName(teamName));
         }
 
         if (priority != null && !priority.isBlank()) {
-            TicketPriority pr = TicketPriority.valueOf(priority.trim().toUpperCase(Locale.ROOT));
-            tickets = tickets.stream().filter(t -> t.getPriority() == pr).collect(Collectors.toList());
+            TicketPriority pr = parsePriority(priority);
+            spec = spec.and(TicketSpecifications.hasPriority(pr));
         }
 
         if (search != null && !search.isBlank()) {
-            String term = search.trim().toLowerCase(Locale.ROOT);
-            tickets = tickets.stream().filter(t ->
-                    (t.getTicketNumber() != null && t.getTicketNumber().toLowerCase().contains(term)) ||
-                            (t.getSubject() != null && t.getSubject().toLowerCase().contains(term)) ||
-                            (t.getRequester() != null && t.getRequester().getFullName() != null &&
-                                    t.getRequester().getFullName().toLowerCase().contains(term)) ||
-                            (t.getRequester() != null && t.getRequester().getEmail() != null &&
-                                    t.getRequester().getEmail().toLowerCase().contains(term))
-            ).collect(Collectors.toList());
-        }
-
-        return tickets;
+            // the trigram index narrows to ids when enabled (single instance); otherwise the DB LIKE
+            Set<Long> ids = searchIndex.search(search);
+            if (ids != null && ids.size() <= MAX_SEARCH_IDS) {
+                spec = spec.and(TicketSpecifications.idIn(ids));
+            } else {
+                spec = spec.and(TicketSpecifications.matchesSearch(search));
+            }
+        }
+
+        return spec;
+    }
+
+    private static TicketStatus parseStatus(String status) {
+        try {
+            return TicketStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTicketQueryException("Unknown status: " + status);
+        }
+    }
+
+    private static TicketPriority parsePriority(String priority) {
+        try {
+            return TicketPriority.valueOf(priority.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTicketQueryException("Unknown priority: " + priority);
+        }
     }
 
     public Ticket get(Long id) {
@@ -130,6 +212,7 @@ public class TicketService {
 
     public Ticket update(Long id, Ticket input) {
         Ticket existing = get(id);
+        TicketAggregates.Slot before = TicketAggregates.Slot.of(existing);
 
         existing.setSubject(input.getSubject());
         existing.setStatus(input.getStatus());
@@ -152,34 +235,172 @@ public class TicketService {
             existing.setAssignedTeam(null);
         }
 
-        return ticketRepo.save(existing);
+        Ticket saved = ticketRepo.save(existing);
+        searchIndex.changed(saved);
+        versions.changed(saved.getId());
+        aggregates.moved(before, TicketAggregates.Slot.of(saved));
+        viewProjector.changed(saved.getId());
+        eventPublisher.publishEvent(TicketChangedEvent.updated(
+                saved.getId(), saved.getAssignedTeam() == null ? null : saved.getAssignedTeam().getName()));
+        return saved;
     }
 
+    @Transactional
     public void delete(Long id) {
-        if (!ticketRepo.existsById(id)) throw new RuntimeException("Ticket not found: " + id);
-        ticketRepo.deleteById(id);
+        Ticket ticket = ticketRepo.findById(id)
+                .orElseThrow(() -> new RuntimeException("Ticket not found: " + id));
+        ticketRepo.delete(ticket);
+        // same transaction: the change feed reports the delete exactly when it commits
+        tombstoneRepository.save(new TicketTombstone(id, ticket.getTicketNumber(), LocalDateTime.now()));
+        searchIndex.removed(id);
+        versions.changed(id);
+        aggregates.deleted(TicketAggregates.Slot.of(ticket));
+        viewProjector.changed(id);
     }
 
-    public List<TicketResponse> listAsDto(String status, Long teamId, String teamName, String priority, String search) {
-        return list(status, teamId, teamName, priority, search).stream()
-                .map(t -> {
-                    TicketResponse r = TicketResponse.from(t);
+    // Tickets touched and deleted after the cursor, oldest first, merged into one ordering.
+    // Rows stamped within the settle window are held back: their transaction may not have
+    // committed yet, and an older stamp committing after the cursor moved past it would be lost.
+    public TicketChangesResponse changesSince(String since, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TicketChangeCursor from = TicketChangeCursor.decode(since);
+        LocalDateTime until = LocalDateTime.now().minus(changesSettle);
+
+        List<Ticket> tickets = ticketRepo.findChanged(
+                TicketSpecifications.changedAfter(from).and(TicketSpecifications.changedBefore(until)),
+                pageSize + 1);
+        List<TicketTombstone> tombstones = tombstoneRepository.findChanged(
+                from.getChangedAt(), from.getId(), until, PageRequest.of(0, pageSize + 1));
+
+        List<Ticket> changed = new ArrayList<>();
+        List<TicketTombstoneResponse> deleted = new ArrayList<>();
+        TicketChangeCursor last = from;
+        int i = 0;
+        int j = 0;
+        while (changed.size() + deleted.size() < pageSize && (i < tickets.size() || j < tombstones.size())) {
+            Ticket t = i < tickets.size() ? tickets.get(i) : null;
+            TicketTombstone d = j < tombstones.size() ? tombstones.get(j) : null;
+            TicketChangeCursor ticketPos = t == null ? null : new TicketChangeCursor(t.getUpdatedAt(), t.getId());
+
+            if (d == null || (ticketPos != null && ticketPos.compareTo(d.getDeletedAt(), d.getTicketId()) < 0)) {
+                changed.add(t);
+                last = ticketPos;
+                i++;
+            } else {
+                deleted.add(TicketTombstoneResponse.from(d));
+                last = new TicketChangeCursor(d.getDeletedAt(), d.getTicketId());
+                j++;
+            }
+        }
+        boolean hasMore = i < tickets.size() || j < tombstones.size();
 
-                    // ✅ Load detail row (1:1) and attach
-                    TicketDetail detail = ticketDetailRepository.findByTicketId(t.getId()).orElse(null);
-                    if (detail != null) {
-                        r.setTicketDetail(TicketDetailResponse.from(detail));
-                    }
+        return new TicketChangesResponse(toDtos(changed), deleted, last.encode(), hasMore);
+    }
 
-                    // 3️⃣ AI team confidences (TOP 3)
-                    List<AiTeamConfidence> aiTeams =
-                            ticketAiTeamConfidenceRepository
-                                    .findByTicketIdOrderByRankOrderAsc(t.getId())
-                                    .stream()
-                                    .map(AiTeamConfidence::from)
-                                    .toList();
+    public TicketPageResponse listAsDto(String status, Long teamId, String teamName, String priority, String search,
+                                        String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (viewProjector.isEnabled()) {
+            return listFromView(status, teamId, teamName, priority, search, cursor, pageSize);
+        }
+
+        Specification<Ticket> spec = filters(status, teamId, teamName, priority, search);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(TicketSpecifications.after(TicketCursor.decode(cursor)));
+        }
+
+        // fetch one extra row to know whether another page exists
+        List<Ticket> rows = ticketRepo.findSlice(spec, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Ticket> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Ticket last = page.get(page.size() - 1);
+            nextCursor = new TicketCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new TicketPageResponse(toDtos(page), nextCursor, pageSize);
+    }
+
+    // Read-model path: one single-table query per page, no confidence batch.
+    // Eventually consistent: a write shows up once the projector has caught up (see its lag metric).
+    private TicketPageResponse listFromView(String status, Long teamId, String teamName, String priority, String search,
+                                            String cursor, int pageSize) {
+        Specification<TicketView> spec = viewFilters(status, teamId, teamName, priority, search);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(TicketViewSpecifications.after(TicketCursor.decode(cursor)));
+        }
+
+        List<TicketView> rows = viewRepo.findSlice(spec, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<TicketView> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TicketView last = page.get(page.size() - 1);
+            nextCursor = new TicketCursor(last.getCreatedAt(), last.getTicketId()).encode();
+        }
+
+        return new TicketPageResponse(page.stream().map(TicketResponse::from).toList(), nextCursor, pageSize);
+    }
+
+    private Specification<TicketView> viewFilters(String status, Long teamId, String teamName, String priority,
+                                                  String search) {
+        Specification<TicketView> spec = Specification.where(null);
+
+        if (status != null && !status.isBlank()) {
+            TicketStatus st = parseStatus(status);
+            spec = spec.and(TicketViewSpecifications.hasStatus(st));
+        }
+
+        if (teamId != null) {
+            spec = spec.and(TicketViewSpecifications.assignedToTeamId(teamId));
+        }
+
+        if (teamName != null && !teamName.isBlank() && !"All".equalsIgnoreCase(teamName)) {
+            spec = spec.and(TicketViewSpecifications.assignedToTeamName(teamName));
+        }
+
+        if (priority != null && !priority.isBlank()) {
+            TicketPriority pr = parsePriority(priority);
+            spec = spec.and(TicketViewSpecifications.hasPriority(pr));
+        }
+
+        if (search != null && !search.isBlank()) {
+            Set<Long> ids = searchIndex.search(search);
+            if (ids != null && ids.size() <= MAX_SEARCH_IDS) {
+                spec = spec.and(TicketViewSpecifications.idIn(ids));
+            } else {
+                spec = spec.and(TicketViewSpecifications.matchesSearch(search));
+            }
+        }
+
+        return spec;
+    }
+
+    // Fixed query count per page: the slice query (with fetch joins) + one batch for confidences
+    private List<TicketResponse> toDtos(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = tickets.stream().map(Ticket::getId).toList();
+
+        // AI team confidences (top 3), grouped per ticket
+        Map<Long, List<AiTeamConfidence>> teamsByTicket = new HashMap<>();
+        for (TicketAiTeamConfidence c : ticketAiTeamConfidenceRepository.findTopByTicketIds(ids, 3)) {
+            teamsByTicket
+                    .computeIfAbsent(c.getTicket().getId(), k -> new ArrayList<>())
+                    .add(AiTeamConfidence.from(c));
+        }
+
+        return tickets.stream()
+                .map(t -> {
+                    TicketResponse r = TicketResponse.from(t);
 
-                    if (!aiTeams.isEmpty()) {
+                    List<AiTeamConfidence> aiTeams = teamsByTicket.get(t.getId());
+                    if (aiTeams != null) {
                         r.setTeams(aiTeams);
                     }
 
@@ -187,4 +408,4 @@ public class TicketService {
                 })
                 .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory validators for conditional GETs on tickets: a version counter bumped by every
+// ticket write, plus the version of each ticket's last change. Answering If-None-Match
+// needs no query and no serialization.
+// Bumps land after commit, so a version is never handed out ahead of the data it stands for.
+// Versions live in this JVM, so a write on one instance would leave the others answering 304:
+// off by default, turn on with tickets.etag.enabled=true only for a single-instance deployment.
+@Component
+public class TicketVersions {
+
+    private final boolean enabled;
+    private final int maxTracked;
+    // new per boot, so validators from before a restart never match
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> byTicket = new ConcurrentHashMap<>();
+    // version of every ticket not in byTicket
+    private volatile long floor;
+
+    public TicketVersions(
+            @Value("${tickets.etag.enabled:false}") boolean enabled,
+            @Value("${tickets.etag.max-tracked:100000}") int maxTracked
+    ) {
+        this.enabled = enabled;
+        this.maxTracked = maxTracked;
+    }
+
+    public void changed(Long ticketId) {
+        AfterCommit.run(() -> bump(ticketId));
+    }
+
+    public void changed(Collection<Long> ticketIds) {
+        AfterCommit.run(() -> ticketIds.forEach(this::bump));
+    }
+
+    // Writes that show up in every ticket (team or customer names)
+    public void changedAll() {
+        AfterCommit.run(this::reset);
+    }
+
+    // null when validators are disabled
+    public String listEtag() {
+        return enabled ? etag(version.get()) : null;
+    }
+
+    public String ticketEtag(Long ticketId) {
+        if (!enabled) {
+            return null;
+        }
+        Long v = byTicket.get(ticketId);
+        long f = floor;
+        return etag(v == null ? f : Math.max(v, f));
+    }
+
+    private void bump(Long ticketId) {
+        byTicket.put(ticketId, version.incrementAndGet());
+        if (byTicket.size() > maxTracked) {
+            reset();
+        }
+    }
+
+    // forget per-ticket versions: everything moves to one fresh version nobody has seen yet
+    private void reset() {
+        floor = version.incrementAndGet();
+        byTicket.clear();
+    }
+
+    private String etag(long v) {
+        return "W/\"" + epoch + "-" + v + "\"";
+    }
+}
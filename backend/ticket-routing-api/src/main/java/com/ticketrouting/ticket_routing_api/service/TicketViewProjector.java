@@ -0,0 +1,391 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.dto.TicketReadModelStats;
+import com.ticketrouting.ticket_routing_api.dto.TicketViewConsistencyReport;
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import com.ticketrouting.ticket_routing_api.model.TicketAiTeamConfidence;
+import com.ticketrouting.ticket_routing_api.model.TicketDetail;
+import com.ticketrouting.ticket_routing_api.model.TicketView;
+import com.ticketrouting.ticket_routing_api.repository.TicketAiTeamConfidenceRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketSpecifications;
+import com.ticketrouting.ticket_routing_api.repository.TicketViewRepository;
+import com.ticketrouting.ticket_routing_api.repository.TicketViewSpecifications;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Keeps ticket_view in step with the write model.
+// Writers mark a ticket dirty after commit; one thread re-reads dirty tickets from the source
+// tables in batches and upserts their rows, so a projection always reflects committed state and
+// a change racing a projection just marks the ticket again. Rename fan-out, rebuilds and
+// projections all run on that thread, so they never overwrite each other out of order.
+// Dirty marks live in memory: after a crash the startup consistency check re-queues what drifted.
+@Component
+public class TicketViewProjector {
+
+    private static final int SAMPLE_IDS = 20;
+
+    private final TicketRepository ticketRepo;
+    private final TicketAiTeamConfidenceRepository confidenceRepo;
+    private final TicketViewRepository viewRepo;
+    private final TicketVersions versions;
+    private final TransactionTemplate tx;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollMs;
+
+    // ticket id -> System.nanoTime() of the first unprojected change
+    private final ConcurrentHashMap<Long, Long> dirty = new ConcurrentHashMap<>();
+    private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+
+    // single thread: projections, renames and rebuilds never interleave
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ticket-view-projector");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Timer lag;
+    private final AtomicLong projected = new AtomicLong();
+    private final AtomicLong removed = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private volatile double lastLagMs;
+    private volatile long lastRebuildRows;
+    private volatile LocalDateTime lastRebuildAt;
+
+    public TicketViewProjector(
+            TicketRepository ticketRepo,
+            TicketAiTeamConfidenceRepository confidenceRepo,
+            TicketViewRepository viewRepo,
+            TicketVersions versions,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry,
+            @Value("${tickets.read-model.enabled:false}") boolean enabled,
+            @Value("${tickets.read-model.batch-size:200}") int batchSize,
+            @Value("${tickets.read-model.poll-ms:250}") long pollMs
+    ) {
+        this.ticketRepo = ticketRepo;
+        this.confidenceRepo = confidenceRepo;
+        this.viewRepo = viewRepo;
+        this.versions = versions;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollMs = pollMs;
+        this.lag = Timer.builder("ticket.view.projection.lag")
+                .description("Write commit until the change is visible in ticket_view")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(registry);
+        Gauge.builder("ticket.view.pending", dirty, Map::size)
+                .description("Tickets changed and not yet projected into ticket_view")
+                .register(registry);
+    }
+
+    // Empty view: build it. Otherwise re-queue whatever drifted while the app was down.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.execute(() -> {
+            try {
+                if (viewRepo.count() == 0) {
+                    doRebuild();
+                } else {
+                    check(true);
+                }
+            } catch (RuntimeException e) {
+                System.out.println(">>> [ReadModel] Startup catch-up failed: " + e.getMessage());
+            }
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, pollMs, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void changed(Long ticketId) {
+        if (enabled) {
+            AfterCommit.run(() -> markDirty(List.of(ticketId)));
+        }
+    }
+
+    public void changed(Collection<Long> ticketIds) {
+        if (enabled) {
+            AfterCommit.run(() -> markDirty(ticketIds));
+        }
+    }
+
+    // Team and requester names are copied into every row: one set-based UPDATE per rename
+    public void teamRenamed(Long teamId, String name) {
+        if (enabled) {
+            AfterCommit.run(() -> scheduler.execute(() -> fanOut(() ->
+                    viewRepo.updateTeamName(teamId, name, TicketViewSpecifications.teamKey(name)))));
+        }
+    }
+
+    public void requesterChanged(Long customerId, String name, String email) {
+        if (enabled) {
+            AfterCommit.run(() -> scheduler.execute(() -> fanOut(() ->
+                    viewRepo.updateRequester(customerId, name, email))));
+        }
+    }
+
+    // Re-projects every ticket in id order, then drops rows of deleted tickets.
+    // Rows are upserted in place, so list reads stay valid while it runs.
+    public TicketReadModelStats rebuild() {
+        try {
+            scheduler.submit(this::doRebuild).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rebuild failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return stats();
+    }
+
+    // Compares ticket_view with the source tables; with repair, drifted tickets are re-queued
+    public TicketViewConsistencyReport check(boolean repair) {
+        List<Long> missing = viewRepo.findMissingIds();
+        List<Long> stale = viewRepo.findStaleIds();
+        List<Long> orphaned = viewRepo.findOrphanIds();
+
+        List<Long> sample = Stream.of(missing, stale, orphaned)
+                .flatMap(List::stream)
+                .limit(SAMPLE_IDS)
+                .toList();
+
+        boolean queued = false;
+        if (repair && !sample.isEmpty()) {
+            // projecting a deleted ticket removes its row, so orphans take the same path
+            markDirty(missing);
+            markDirty(stale);
+            markDirty(orphaned);
+            queued = true;
+        }
+        if (!sample.isEmpty()) {
+            System.out.println(">>> [ReadModel] Drift: missing=" + missing.size() + " stale=" + stale.size()
+                    + " orphaned=" + orphaned.size() + (queued ? ", re-queued" : ""));
+        }
+        return new TicketViewConsistencyReport(LocalDateTime.now(), missing.size(), stale.size(), orphaned.size(),
+                sample, queued);
+    }
+
+    public TicketReadModelStats stats() {
+        return new TicketReadModelStats(enabled, dirty.size(), projected.get(), removed.get(), failedBatches.get(),
+                lastLagMs, rebuilds.get(), lastRebuildRows, lastRebuildAt);
+    }
+
+    private void markDirty(Collection<Long> ticketIds) {
+        long now = System.nanoTime();
+        for (Long id : ticketIds) {
+            dirty.putIfAbsent(id, now);
+        }
+        // one queued poll is enough however many commits arrive before it runs
+        if (wakeUpQueued.compareAndSet(false, true)) {
+            scheduler.execute(this::poll);
+        }
+    }
+
+    private void poll() {
+        wakeUpQueued.set(false);
+        while (!dirty.isEmpty()) {
+            Map<Long, Long> batch = new HashMap<>();
+            Iterator<Map.Entry<Long, Long>> it = dirty.entrySet().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                Map.Entry<Long, Long> e = it.next();
+                // removed before the source is read: a change committing after the read marks it again
+                if (dirty.remove(e.getKey(), e.getValue())) {
+                    batch.put(e.getKey(), e.getValue());
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                project(batch.keySet());
+            } catch (RuntimeException e) {
+                failedBatches.incrementAndGet();
+                System.out.println(">>> [ReadModel] Projection of " + batch.size() + " tickets failed: " + e.getMessage());
+                // keep the original marks so the lag metric stays honest; retried next tick
+                batch.forEach(dirty::putIfAbsent);
+                return;
+            }
+
+            // the list ETag was bumped at commit, possibly before these rows were visible;
+            // bump again so a validator handed out in between stops matching
+            versions.changed(batch.keySet());
+
+            long now = System.nanoTime();
+            long maxLag = 0;
+            for (long markedAt : batch.values()) {
+                long nanos = now - markedAt;
+                lag.record(nanos, TimeUnit.NANOSECONDS);
+                maxLag = Math.max(maxLag, nanos);
+            }
+            lastLagMs = maxLag / 1_000_000.0;
+        }
+    }
+
+    private void doRebuild() {
+        long rows = 0;
+        Long after = 0L;
+        while (true) {
+            List<Long> ids = ticketRepo.findIdsAfter(after, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            project(ids);
+            rows += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+
+        List<Long> orphaned = viewRepo.findOrphanIds();
+        for (int from = 0; from < orphaned.size(); from += batchSize) {
+            List<Long> chunk = orphaned.subList(from, Math.min(from + batchSize, orphaned.size()));
+            tx.executeWithoutResult(status -> viewRepo.deleteByTicketIds(chunk));
+            removed.addAndGet(chunk.size());
+        }
+
+        versions.changedAll();
+        rebuilds.incrementAndGet();
+        lastRebuildRows = rows;
+        lastRebuildAt = LocalDateTime.now();
+        System.out.println(">>> [ReadModel] Rebuilt ticket_view: " + rows + " rows, " + orphaned.size() + " orphans removed");
+    }
+
+    // One read of the sources (tickets with fetch joins + one confidence batch) and one
+    // batched write per call; tickets that no longer exist lose their row
+    private void project(Collection<Long> ticketIds) {
+        tx.executeWithoutResult(status -> {
+            List<Ticket> tickets = ticketRepo.findSlice(TicketSpecifications.idIn(ticketIds), ticketIds.size());
+
+            Map<Long, List<TicketAiTeamConfidence>> teamsByTicket = new HashMap<>();
+            for (TicketAiTeamConfidence c : confidenceRepo.findTopByTicketIds(ticketIds, 3)) {
+                teamsByTicket.computeIfAbsent(c.getTicket().getId(), k -> new ArrayList<>()).add(c);
+            }
+
+            Map<Long, TicketView> existing = new HashMap<>();
+            for (TicketView v : viewRepo.findAllById(ticketIds)) {
+                existing.put(v.getTicketId(), v);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> gone = new HashSet<>(ticketIds);
+            for (Ticket t : tickets) {
+                gone.remove(t.getId());
+                TicketView v = existing.get(t.getId());
+                boolean isNew = v == null;
+                if (isNew) {
+                    v = new TicketView();
+                    v.setTicketId(t.getId());
+                }
+                fill(v, t, teamsByTicket.getOrDefault(t.getId(), List.of()), now);
+                // managed rows are flushed as batched UPDATEs; persist avoids a SELECT per new row
+                if (isNew) {
+                    em.persist(v);
+                }
+            }
+
+            if (!gone.isEmpty()) {
+                viewRepo.deleteByTicketIds(gone);
+                removed.addAndGet(gone.size());
+            }
+            projected.addAndGet(tickets.size());
+        });
+    }
+
+    private void fanOut(Runnable update) {
+        try {
+            tx.executeWithoutResult(status -> update.run());
+            versions.changedAll();
+        } catch (RuntimeException e) {
+            System.out.println(">>> [ReadModel] Rename fan-out failed: " + e.getMessage());
+        }
+    }
+
+    private static void fill(TicketView v, Ticket t, List<TicketAiTeamConfidence> teams, LocalDateTime now) {
+        v.setTicketNumber(t.getTicketNumber());
+        v.setSubject(t.getSubject());
+        v.setStatus(t.getStatus());
+        v.setPriority(t.getPriority());
+        v.setCreatedAt(t.getCreatedAt());
+        v.setUpdatedAt(t.getUpdatedAt());
+
+        v.setRequesterId(t.getRequester().getId());
+        v.setRequesterName(t.getRequester().getFullName());
+        v.setRequesterEmail(t.getRequester().getEmail());
+
+        if (t.getAssignedTeam() != null) {
+            v.setAssignedTeamId(t.getAssignedTeam().getId());
+            v.setAssignedTeamName(t.getAssignedTeam().getName());
+            v.setAssignedTeamKey(TicketViewSpecifications.teamKey(t.getAssignedTeam().getName()));
+        } else {
+            v.setAssignedTeamId(null);
+            v.setAssignedTeamName(null);
+            v.setAssignedTeamKey(null);
+        }
+
+        TicketDetail d = t.getTicketDetail();
+        v.setDetailCreatedAt(d == null ? null : d.getCreatedAt());
+        v.setAiSuggestedTeam(d == null ? null : d.getAiSuggestedTeam());
+        v.setAiConfidence(d == null ? null : d.getAiConfidence());
+
+        TicketAiTeamConfidence c1 = teams.size() > 0 ? teams.get(0) : null;
+        TicketAiTeamConfidence c2 = teams.size() > 1 ? teams.get(1) : null;
+        TicketAiTeamConfidence c3 = teams.size() > 2 ? teams.get(2) : null;
+        v.setTeam1Name(c1 == null ? null : c1.getTeamName());
+        v.setTeam1Confidence(c1 == null ? null : c1.getConfidence());
+        v.setTeam2Name(c2 == null ? null : c2.getTeamName());
+        v.setTeam2Confidence(c2 == null ? null : c2.getConfidence());
+        v.setTeam3Name(c3 == null ? null : c3.getTeamName());
+        v.setTeam3Confidence(c3 == null ? null : c3.getConfidence());
+
+        v.setProjectedAt(now);
+    }
+}
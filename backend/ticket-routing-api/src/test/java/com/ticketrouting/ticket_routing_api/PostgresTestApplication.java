@@ -0,0 +1,37 @@
+package com.ticketrouting.ticket_routing_api;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.io.IOException;
+
+// The whole application against a throwaway PostgreSQL, for tests that need the real dialect
+// (native upserts, SKIP LOCKED, sequences) rather than H2. One server per cached test context.
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan("com.ticketrouting.ticket_routing_api")
+@EntityScan("com.ticketrouting.ticket_routing_api.model")
+@EnableJpaRepositories("com.ticketrouting.ticket_routing_api.repository")
+public class PostgresTestApplication {
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.builder().start();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(EmbeddedPostgres postgres) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSource.setUsername("postgres");
+        return dataSource;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.PostgresTestApplication;
+import com.ticketrouting.ticket_routing_api.dto.CreateTicketRequest;
+import com.ticketrouting.ticket_routing_api.model.Customer;
+import com.ticketrouting.ticket_routing_api.model.Ticket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// The requester upsert against the real PostgreSQL dialect: concurrent first-time requesters
+// with case variants of one email, and a cached id whose row was deleted behind the cache's back.
+@SpringBootTest(classes = PostgresTestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class CustomerIdCacheTest {
+
+    private static final int THREADS = 16;
+    private static final int EMAILS = 200;
+
+    @Autowired
+    private CustomerIdCache customerIdCache;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void clean() {
+        jdbc.execute("TRUNCATE ticket_ai_team_confidence, ticket_detail, routing_outbox, ticket_activity, " +
+                "ticket_view, ticket_tombstone, ticket, customer RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    void concurrentCaseVariantsGetOneRowPerNormalizedEmail() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Map<String, Set<Long>> idsByEmail = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                int variant = t;
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < EMAILS; i++) {
+                        String normalized = "race-" + i + "@example.com";
+                        Customer c = tx.execute(s -> customerIdCache.resolve(casing(normalized, variant), "Race " + variant));
+                        idsByEmail.computeIfAbsent(normalized, k -> ConcurrentHashMap.newKeySet()).add(c.getId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> w : workers) {
+                w.get(); // rethrows any failed upsert
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(EMAILS, idsByEmail.size());
+        idsByEmail.forEach((email, ids) -> assertEquals(1, ids.size(), email + " resolved to " + ids));
+
+        assertEquals(EMAILS, jdbc.queryForObject("SELECT count(*) FROM customer", Integer.class));
+        assertEquals(0, jdbc.queryForObject(
+                "SELECT count(*) FROM (SELECT lower(trim(email)) FROM customer " +
+                        "GROUP BY lower(trim(email)) HAVING count(*) > 1) d", Integer.class));
+    }
+
+    @Test
+    void createReResolvesRequesterDeletedOnAnotherInstance() {
+        Ticket first = ticketService.create(request("gone@example.com"));
+        Long staleId = first.getRequester().getId();
+
+        // another instance deletes the requester; this JVM's cache still maps the email to it
+        jdbc.execute("TRUNCATE customer CASCADE");
+
+        Ticket second = ticketService.create(request("Gone@Example.com"));
+
+        assertNotEquals(staleId, second.getRequester().getId());
+        assertEquals(second.getRequester().getId(), jdbc.queryForObject(
+                "SELECT requester_id FROM ticket WHERE id = ?", Long.class, second.getId()));
+    }
+
+    private static CreateTicketRequest request(String email) {
+        CreateTicketRequest req = new CreateTicketRequest();
+        req.setSubject("pod pending after node drain");
+        req.setRequesterEmail(email);
+        req.setRequesterName("Requester");
+        return req;
+    }
+
+    // lower, upper, capitalized, padded: all normalize to the same key
+    private static String casing(String email, int variant) {
+        return switch (variant % 4) {
+            case 0 -> email;
+            case 1 -> email.toUpperCase(Locale.ROOT);
+            case 2 -> Character.toUpperCase(email.charAt(0)) + email.substring(1);
+            default -> " " + email + " ";
+        };
+    }
+}
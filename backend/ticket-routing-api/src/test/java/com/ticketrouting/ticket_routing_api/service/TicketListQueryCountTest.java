@@ -0,0 +1,112 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import com.ticketrouting.ticket_routing_api.PostgresTestApplication;
+import com.ticketrouting.ticket_routing_api.StatementCounter;
+import com.ticketrouting.ticket_routing_api.dto.TicketPageResponse;
+import com.ticketrouting.ticket_routing_api.dto.TicketResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// A list page costs the same statements whatever its size: the keyset slice (requester, team
+// and detail fetched with it) plus one batch for the AI team confidences. No N+1.
+@SpringBootTest(classes = PostgresTestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ticketrouting.ticket_routing_api.StatementCounter")
+class TicketListQueryCountTest {
+
+    private static final int TICKETS = 120;
+    private static final int STATEMENTS_PER_PAGE = 2;
+    private static final String[] TEAMS = {"Networking", "Cluster Administration", "Containers and Workloads"};
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        jdbc.execute("TRUNCATE ticket_ai_team_confidence, ticket_detail, routing_outbox, ticket_activity, " +
+                "ticket_view, ticket_tombstone, ticket, customer, team RESTART IDENTITY CASCADE");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (String team : TEAMS) {
+            jdbc.update("INSERT INTO team (name, active, created_at) VALUES (?, true, ?)", team, now);
+        }
+        List<Long> teamIds = jdbc.queryForList("SELECT id FROM team ORDER BY id", Long.class);
+        for (int i = 0; i < 5; i++) {
+            String email = "requester" + i + "@example.com";
+            jdbc.update("INSERT INTO customer (full_name, email, email_normalized, active, created_at) " +
+                    "VALUES (?, ?, ?, true, ?)", "Requester " + i, email, email, now);
+        }
+        List<Long> customerIds = jdbc.queryForList("SELECT id FROM customer ORDER BY id", Long.class);
+
+        LocalDateTime start = LocalDateTime.now();
+        for (int i = 0; i < TICKETS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.minusMinutes(i));
+            Long ticketId = jdbc.queryForObject(
+                    "INSERT INTO ticket (id, ticket_number, subject, status, priority, archived, requester_id, " +
+                            "assigned_team_id, created_at, updated_at) " +
+                            "VALUES (nextval('ticket_seq'), ?, ?, 'OPEN', 'HIGH', false, ?, ?, ?, ?) RETURNING id",
+                    Long.class, "TCK-" + i, "pod pending " + i, customerIds.get(i % customerIds.size()),
+                    i % 4 == 0 ? null : teamIds.get(i % teamIds.size()), createdAt, createdAt);
+            jdbc.update("INSERT INTO ticket_detail (id, ticket_id, ai_suggested_team, ai_confidence, created_at) " +
+                    "VALUES (nextval('ticket_detail_seq'), ?, ?, 55.0, ?)", ticketId, TEAMS[i % TEAMS.length], createdAt);
+            List<Object[]> confidences = new ArrayList<>();
+            for (int rank = 1; rank <= 3; rank++) {
+                confidences.add(new Object[]{ticketId, TEAMS[rank - 1], 60.0 - rank * 10, rank, createdAt});
+            }
+            jdbc.batchUpdate("INSERT INTO ticket_ai_team_confidence (id, ticket_id, team_name, confidence, " +
+                    "rank_order, created_at) VALUES (nextval('ticket_ai_team_confidence_seq'), ?, ?, ?, ?, ?)",
+                    confidences);
+        }
+    }
+
+    @Test
+    void pageSizeDoesNotChangeStatementCount() {
+        for (int pageSize : new int[]{1, 10, 50, 100}) {
+            StatementCounter.reset();
+            TicketPageResponse page = ticketService.listAsDto(null, null, null, null, null, null, pageSize);
+            assertEquals(pageSize, page.getItems().size());
+            assertEquals(STATEMENTS_PER_PAGE, StatementCounter.count(), "statements for a page of " + pageSize);
+        }
+    }
+
+    @Test
+    void filteredAndNextPagesCostTheSame() {
+        StatementCounter.reset();
+        TicketPageResponse first = ticketService.listAsDto("open", null, TEAMS[0], "high", null, null, 20);
+        assertEquals(STATEMENTS_PER_PAGE, StatementCounter.count());
+        assertNotNull(first.getNextCursor());
+
+        StatementCounter.reset();
+        TicketPageResponse second = ticketService.listAsDto("open", null, TEAMS[0], "high", null,
+                first.getNextCursor(), 20);
+        assertEquals(STATEMENTS_PER_PAGE, StatementCounter.count());
+        assertFalse(second.getItems().isEmpty());
+    }
+
+    @Test
+    void everyRowCarriesItsRelationsWithoutExtraQueries() {
+        StatementCounter.reset();
+        TicketPageResponse page = ticketService.listAsDto(null, null, null, null, null, null, 50);
+        for (TicketResponse r : page.getItems()) {
+            assertNotNull(r.getRequesterEmail());
+            assertNotNull(r.getTicketDetail());
+            assertEquals(3, r.getTeams().size());
+        }
+        assertEquals(STATEMENTS_PER_PAGE, StatementCounter.count());
+    }
+}
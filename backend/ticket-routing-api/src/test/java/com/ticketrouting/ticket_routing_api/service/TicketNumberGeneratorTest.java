@@ -0,0 +1,147 @@
+package com.ticketrouting.ticket_routing_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Ids from one node under contention: unique, increasing per caller, and still so when the
+// clock steps back or a millisecond runs out of sequence numbers. Fixed node id, so no database.
+class TicketNumberGeneratorTest {
+
+    private static final long NODE = 7;
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 50_000;
+    private static final int SEQUENCE_PER_MILLI = 4096;
+
+    private TicketNumberGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new TicketNumberGenerator(null, null, NODE, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.stop();
+    }
+
+    @Test
+    void concurrentIdsAreUnique() throws Exception {
+        Set<Long> ids = generateConcurrently(() -> generator.nextId());
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+        ids.forEach(id -> assertEquals(NODE, node(id)));
+    }
+
+    @Test
+    void concurrentIdsAreUniqueWhenTheClockStepsBack() throws Exception {
+        // every thread reads a clock that advances but jumps back a second every few hundred reads,
+        // as an NTP correction would
+        AtomicLong reads = new AtomicLong();
+        long start = System.currentTimeMillis() - TicketNumberGenerator.EPOCH;
+        Set<Long> ids = generateConcurrently(() -> {
+            long n = reads.incrementAndGet();
+            return generator.nextId(start + n / 8 - (n % 300 == 0 ? 1000 : 0));
+        });
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+
+    @Test
+    void clockRollbackContinuesFromTheLastId() {
+        long t = 1_000_000;
+        List<Long> ids = new ArrayList<>();
+        ids.add(generator.nextId(t));
+        ids.add(generator.nextId(t));
+        ids.add(generator.nextId(t - 500));
+        ids.add(generator.nextId(t - 500));
+        ids.add(generator.nextId(t));
+        ids.add(generator.nextId(t + 1));
+
+        assertIncreasing(ids);
+        assertEquals(t, millis(ids.get(4)));
+        assertEquals(4, sequence(ids.get(4)));
+        assertEquals(t + 1, millis(ids.get(5)));
+        assertEquals(0, sequence(ids.get(5)));
+    }
+
+    @Test
+    void sequenceOverflowRollsIntoTheNextMillisecond() {
+        long t = 1_000_000;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i <= SEQUENCE_PER_MILLI; i++) {
+            ids.add(generator.nextId(t));
+        }
+
+        assertIncreasing(ids);
+        assertEquals(t, millis(ids.get(SEQUENCE_PER_MILLI - 1)));
+        assertEquals(SEQUENCE_PER_MILLI - 1, sequence(ids.get(SEQUENCE_PER_MILLI - 1)));
+        assertEquals(t + 1, millis(ids.get(SEQUENCE_PER_MILLI)));
+        assertEquals(0, sequence(ids.get(SEQUENCE_PER_MILLI)));
+        assertEquals(NODE, node(ids.get(SEQUENCE_PER_MILLI)));
+    }
+
+    // each thread's own ids must increase; all of them together must be distinct
+    private Set<Long> generateConcurrently(LongSupplier nextId) throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    long[] mine = new long[IDS_PER_THREAD];
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        mine[i] = nextId.getAsLong();
+                    }
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        assertTrue(i == 0 || mine[i] > mine[i - 1], "id went backwards at " + i);
+                        ids.add(mine[i]);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> w : workers) {
+                w.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return ids;
+    }
+
+    private static void assertIncreasing(List<Long> ids) {
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1), "id " + i + " not above id " + (i - 1));
+        }
+    }
+
+    private static long millis(long id) {
+        return id >>> 22;
+    }
+
+    private static long node(long id) {
+        return (id >>> 12) & 1023;
+    }
+
+    private static long sequence(long id) {
+        return id & (SEQUENCE_PER_MILLI - 1);
+    }
+}
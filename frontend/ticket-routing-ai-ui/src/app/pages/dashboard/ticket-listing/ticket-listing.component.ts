@@ -1,4 +1,4 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, NgZone, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { ActivatedRoute } from '@angular/router';
@@ -21,6 +21,7 @@ interface TimelineItem {
 }
 
 interface Ticket {
+  id: number;
   ticketNumber: string;
   subject: string;
   requesterName: string;
@@ -29,6 +30,8 @@ interface Ticket {
   status: TicketStatus;
   priority: TicketPriority;
   assignedTeam?: string;
+  assignedTeamName?: string | null;
+  teams?: { team: string; confidence: number }[];
   category?: string;
   aiSuggestions: { team: string; confidence: number }[];
   similarTickets: { id: string; subject: string }[];
@@ -38,6 +41,17 @@ interface Ticket {
 
 type ListTab = 'All' | 'Open' | 'Resolved';
 
+// Pushed by GET /api/tickets/stream after each routing outcome / reassignment commits
+interface TicketChange {
+  ticketId: number;
+  kind: 'ROUTED' | 'REASSIGNED' | 'UPDATED';
+  assignedTeam: string | null;
+  topTeam?: string | null;
+  confidence?: number | null;
+  autoAssigned?: boolean | null;
+  teams?: { team: string; confidence: number }[] | null;
+}
+
 @Component({
   selector: 'app-ticket-listing',
   standalone: true,
@@ -45,7 +59,7 @@ type ListTab = 'All' | 'Open' | 'Resolved';
   templateUrl: './ticket-listing.component.html',
   styleUrls: ['./ticket-listing.component.css'],
 })
-export class TicketListingComponent implements OnInit {
+export class TicketListingComponent implements OnInit, OnDestroy {
   // Keep these because HTML expects them
   tab: ListTab = 'All';
   searchTerm = '';
@@ -53,6 +67,10 @@ export class TicketListingComponent implements OnInit {
   allTickets: Ticket[] = [];
   filteredTickets: Ticket[] = []; // HTML still uses this
 
+  // Keyset paging: cursor of the next page, null when everything is loaded
+  nextCursor: string | null = null;
+  private currentTeam: string | null = null;
+
   selectedTicket: Ticket | null = null;
   replyText = '';
   // Reassign modal state
@@ -72,7 +90,10 @@ export class TicketListingComponent implements OnInit {
   // API endpoint
   private readonly API_URL = 'http://localhost:8080/api/tickets';
 
-  constructor(private route: ActivatedRoute) { }
+  // Live routing updates instead of re-polling the list
+  private changes: EventSource | null = null;
+
+  constructor(private route: ActivatedRoute, private zone: NgZone) { }
 
   ngOnInit(): void {
     // 🔹 React to team filter changes
@@ -80,31 +101,90 @@ export class TicketListingComponent implements OnInit {
       const team = params.get('team');
       this.loadTickets(team);
     });
+    this.openChangeStream();
   }
 
+  ngOnDestroy(): void {
+    this.changes?.close();
+    this.changes = null;
+  }
 
-  // FETCH ONLY: no filtering logic, just show all
-  private async loadTickets(team?: string | null) {
-    try {
-      let url = this.API_URL;
+  // EventSource reconnects on its own; events missed while disconnected
+  // or dropped by the server (slow consumer) arrive as a single "resync"
+  private openChangeStream() {
+    this.changes = new EventSource(`${this.API_URL}/stream`);
 
-      // 🔹 Append team query param only if present
-      if (team) {
-        url += `?teamName=${encodeURIComponent(team)}`;
-      }
+    this.changes.addEventListener('ticket', (e: MessageEvent) => {
+      const change = JSON.parse(e.data) as TicketChange;
+      this.zone.run(() => this.applyChange(change));
+    });
+    this.changes.addEventListener('resync', () => {
+      this.zone.run(() => this.loadTickets(this.currentTeam));
+    });
+  }
 
-      const res = await fetch(url);
-      if (!res.ok) throw new Error(`Tickets API failed: ${res.status}`);
+  private applyChange(change: TicketChange) {
+    const ticket = this.allTickets.find(t => t.id === change.ticketId);
+    if (!ticket) return; // not on a loaded page
+
+    ticket.assignedTeamName = change.assignedTeam;
+    if (change.teams) {
+      ticket.teams = change.teams;
+    }
+    // a team filter may no longer match after a reassignment
+    if (this.currentTeam && this.currentTeam !== 'All' && change.assignedTeam !== this.currentTeam) {
+      this.allTickets = this.allTickets.filter(t => t !== ticket);
+    }
+    this.applyFilters();
+  }
 
-      const data = await res.json();
 
-      this.allTickets = data;
+  // FETCH ONLY: no filtering logic, just show all
+  private async loadTickets(team?: string | null) {
+    this.currentTeam = team ?? null;
+    try {
+      const data = await this.fetchPage(this.currentTeam, null);
+
+      this.allTickets = data.items;
+      this.nextCursor = data.nextCursor;
       this.filteredTickets = this.allTickets; // UI binding unchanged
     } catch (e) {
       console.error('Failed to load tickets from backend', e);
       this.allTickets = [];
       this.filteredTickets = [];
+      this.nextCursor = null;
+    }
+  }
+
+  async loadMore() {
+    if (!this.nextCursor) return;
+    try {
+      const data = await this.fetchPage(this.currentTeam, this.nextCursor);
+
+      this.allTickets = [...this.allTickets, ...data.items];
+      this.nextCursor = data.nextCursor;
+      this.applyFilters();
+    } catch (e) {
+      console.error('Failed to load more tickets from backend', e);
+    }
+  }
+
+  private async fetchPage(team: string | null, cursor: string | null) {
+    const params = new URLSearchParams();
+
+    // 🔹 Append team query param only if present
+    if (team) {
+      params.set('teamName', team);
+    }
+    if (cursor) {
+      params.set('cursor', cursor);
     }
+
+    const query = params.toString();
+    const res = await fetch(query ? `${this.API_URL}?${query}` : this.API_URL);
+    if (!res.ok) throw new Error(`Tickets API failed: ${res.status}`);
+
+    return res.json() as Promise<{ items: Ticket[]; nextCursor: string | null }>;
   }
 
 